@@ -0,0 +1,110 @@
+package com.example.authservice.configuration;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+// Smile-encoded cache values without type ids: every cache declares its value type, so only the data is stored.
+// A one-byte header marks the encoding; anything else (e.g. JDK-serialized entries from before) reads as a miss.
+// Services build independently, so auth- and comment-service carry verbatim copies of task-service's class;
+// task-service's CompactCacheCodecTest fails if they drift.
+public class CompactCacheCodec {
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte SMILE = 1;
+    private static final byte SMILE_DEFLATED = 2;
+
+    private final ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build())
+            .findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final int compressionThreshold;
+
+    public CompactCacheCodec(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public TypeFactory typeFactory() {
+        return smileMapper.getTypeFactory();
+    }
+
+    public RedisSerializer<Object> serializer(Class<?> type) {
+        return serializer(typeFactory().constructType(type));
+    }
+
+    public RedisSerializer<Object> serializer(JavaType type) {
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Object value) {
+                return encode(value);
+            }
+
+            @Override
+            public Object deserialize(byte[] bytes) {
+                return decode(bytes, type);
+            }
+        };
+    }
+
+    byte[] encode(Object value) {
+        if (value == null || value instanceof NullValue) return new byte[]{NULL_VALUE};
+        try {
+            byte[] smile = smileMapper.writeValueAsBytes(value);
+            if (smile.length >= compressionThreshold) {
+                ByteArrayOutputStream deflated = new ByteArrayOutputStream(smile.length / 2);
+                deflated.write(SMILE_DEFLATED);
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (DeflaterOutputStream out = new DeflaterOutputStream(deflated, deflater)) {
+                    out.write(smile);
+                } finally {
+                    deflater.end();
+                }
+                if (deflated.size() < smile.length) return deflated.toByteArray();
+            }
+            byte[] framed = new byte[smile.length + 1];
+            framed[0] = SMILE;
+            System.arraycopy(smile, 0, framed, 1, smile.length);
+            return framed;
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    Object decode(byte[] bytes, JavaType type) {
+        if (bytes == null || bytes.length == 0) return null;
+        try {
+            return switch (bytes[0]) {
+                case NULL_VALUE -> NullValue.INSTANCE;
+                case SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, type);
+                case SMILE_DEFLATED -> {
+                    Inflater inflater = new Inflater();
+                    try (InputStream in = new InflaterInputStream(
+                            new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater)) {
+                        yield smileMapper.readValue(in, type);
+                    } finally {
+                        inflater.end();
+                    }
+                }
+                default -> null;
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not decode cache value as " + type, e);
+        }
+    }
+}
@@ -1,26 +1,50 @@
 package com.example.authservice.configuration;
 
+import com.example.authservice.dto.UserInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                          @Value("${cache.codec.type:smile}") String codec,
+                                          @Value("${cache.codec.compression-threshold:1024}") int compressionThreshold) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .prefixCacheNameWith("task-pulse::")
                 .entryTtl(Duration.ofMinutes(10));
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config);
+        if ("smile".equals(codec)) {
+            CompactCacheCodec cacheCodec = new CompactCacheCodec(compressionThreshold);
+            TypeFactory types = cacheCodec.typeFactory();
+            JavaType user = types.constructType(UserInfo.class);
+            JavaType userList = types.constructCollectionType(List.class, UserInfo.class);
+            Map.of(
+                    "userById", user,
+                    "userByEmail", user,
+                    "userMapByIds", types.constructMapType(Map.class, UUID.class, UserInfo.class),
+                    "allWorkers", userList,
+                    "allManagers", userList
+            ).forEach((name, type) -> builder.withCacheConfiguration(name,
+                    config.serializeValuesWith(SerializationPair.fromSerializer(cacheCodec.serializer(type)))));
+        }
+        return builder.build();
     }
 }
 
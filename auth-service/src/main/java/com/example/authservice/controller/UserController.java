@@ -2,6 +2,7 @@ package com.example.authservice.controller;
 
 import com.example.authservice.dto.Response;
 import com.example.authservice.dto.UpdateUser;
+import com.example.authservice.dto.UserEvent;
 import com.example.authservice.dto.UserInfo;
 import com.example.authservice.service.UserService;
 import jakarta.validation.Valid;
@@ -46,6 +47,12 @@ public class UserController {
         return ResponseEntity.ok(userService.getAllManagers());
     }
 
+    @GetMapping("/snapshot")
+    public ResponseEntity<List<UserEvent>> snapshot(@RequestParam(required = false) UUID after,
+                                                    @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok(userService.getUserSnapshot(after, size));
+    }
+
     @PutMapping("/update/{userId}")
     public ResponseEntity<Response> updateProfile(@Valid @RequestBody UpdateUser request, @PathVariable UUID userId) {
         return ResponseEntity.ok(userService.updateUser(userId, request));
@@ -0,0 +1,21 @@
+package com.example.authservice.dto;
+
+import com.example.authservice.enums.Role;
+import com.example.authservice.enums.UserEventType;
+import com.example.authservice.model.LoginUser;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserEvent(
+        UUID id,
+        String email,
+        String name,
+        Role role,
+        UserEventType type,
+        LocalDateTime updatedAt) {
+    public UserEvent(LoginUser user, UserEventType type) {
+        this(user.getId(), user.getEmail(), user.getName(), user.getRole(), type,
+                user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt());
+    }
+}
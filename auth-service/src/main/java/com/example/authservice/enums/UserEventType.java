@@ -0,0 +1,5 @@
+package com.example.authservice.enums;
+
+public enum UserEventType {
+    CREATED, UPDATED, SNAPSHOT
+}
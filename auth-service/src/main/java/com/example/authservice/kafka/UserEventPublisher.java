@@ -0,0 +1,54 @@
+package com.example.authservice.kafka;
+
+import com.example.authservice.dto.UserEvent;
+import com.example.authservice.enums.UserEventType;
+import com.example.authservice.model.LoginUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventPublisher {
+
+    public static final String TOPIC = "user-events";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(LoginUser user, UserEventType type) {
+        UserEvent event = new UserEvent(user, type);
+        runAfterCommit(() -> send(event));
+    }
+
+    private void send(UserEvent event) {
+        try {
+            kafkaTemplate.send(TOPIC, event.id().toString(), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) log.error("❌ Failed to publish {} event for user {}", event.type(), event.id(), ex);
+                        else log.debug("📤 Published {} event for user {}", event.type(), event.id());
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("❌ Failed to serialize {} event for user {}", event.type(), event.id(), e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
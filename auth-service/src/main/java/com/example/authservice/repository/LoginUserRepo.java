@@ -4,6 +4,7 @@ import com.example.authservice.dto.UserInfo;
 import com.example.authservice.enums.Role;
 import com.example.authservice.model.LoginUser;
 import jakarta.validation.constraints.Email;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,4 +16,6 @@ import java.util.UUID;
 public interface LoginUserRepo extends JpaRepository<LoginUser, UUID> {
     Optional<LoginUser> findByEmail(@Email(message = "Invalid email format") String email);
     List<LoginUser> findAllByRole(Role role);
+    List<LoginUser> findAllByOrderByIdAsc(Limit limit);
+    List<LoginUser> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
 }
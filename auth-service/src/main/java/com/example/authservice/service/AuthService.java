@@ -4,6 +4,8 @@ import com.example.authservice.dto.LoginRequest;
 import com.example.authservice.dto.Response;
 import com.example.authservice.dto.SignupRequest;
 import com.example.authservice.dto.UpdateUser;
+import com.example.authservice.enums.UserEventType;
+import com.example.authservice.kafka.UserEventPublisher;
 import com.example.authservice.model.LoginUser;
 import com.example.authservice.repository.LoginUserRepo;
 import com.example.authservice.util.JwtCookieProperties;
@@ -39,6 +41,7 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final LoginUserRepo loginUserRepo;
+    private final UserEventPublisher userEventPublisher;
 
     @Caching(evict = {
             @CacheEvict(value = "userById", allEntries = true),
@@ -56,6 +59,7 @@ public class AuthService {
                 .role(request.role())
                 .build();
         userRepo.save(user);
+        userEventPublisher.publish(user, UserEventType.CREATED);
         return new Response("User registered successfully", HttpStatus.CREATED, Map.of());
     }
 
@@ -133,7 +137,8 @@ public class AuthService {
         user.setName(request.name());
         user.setEmail(request.email());
         user.setPassword(request.password());
-        loginUserRepo.save(user);
+        loginUserRepo.saveAndFlush(user);
+        userEventPublisher.publish(user, UserEventType.UPDATED);
         return new Response("Profile Updated Successfully", HttpStatus.OK, Map.of());
     }
 }
\ No newline at end of file
@@ -2,13 +2,16 @@ package com.example.authservice.service;
 
 import com.example.authservice.dto.Response;
 import com.example.authservice.dto.UpdateUser;
+import com.example.authservice.dto.UserEvent;
 import com.example.authservice.dto.UserInfo;
 import com.example.authservice.enums.Role;
+import com.example.authservice.enums.UserEventType;
 import com.example.authservice.model.LoginUser;
 import com.example.authservice.repository.LoginUserRepo;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -61,6 +64,16 @@ public class UserService {
                 .toList();
     }
 
+    public List<UserEvent> getUserSnapshot(UUID after, int size) {
+        Limit limit = Limit.of(Math.clamp(size, 1, 1000));
+        List<LoginUser> users = after == null
+                ? loginUserRepo.findAllByOrderByIdAsc(limit)
+                : loginUserRepo.findByIdGreaterThanOrderByIdAsc(after, limit);
+        return users.stream()
+                .map(user -> new UserEvent(user, UserEventType.SNAPSHOT))
+                .toList();
+    }
+
     public Response updateUser(UUID id, @Valid UpdateUser request) {
         return authService.updateUser(id, request);
     }
@@ -4,6 +4,8 @@ import com.example.authservice.dto.LoginRequest;
 import com.example.authservice.dto.Response;
 import com.example.authservice.dto.SignupRequest;
 import com.example.authservice.enums.Role;
+import com.example.authservice.enums.UserEventType;
+import com.example.authservice.kafka.UserEventPublisher;
 import com.example.authservice.model.LoginUser;
 import com.example.authservice.repository.LoginUserRepo;
 import com.example.authservice.util.JwtCookieProperties;
@@ -30,6 +32,7 @@ public class AuthServiceTest {
     private JwtCookieProperties jwtCookieProperties;
     private JwtService jwtService;
     private AuthenticationManager authenticationManager;
+    private UserEventPublisher userEventPublisher;
     private AuthService authService;
 
     @BeforeEach
@@ -39,6 +42,7 @@ public class AuthServiceTest {
         jwtCookieProperties = mock(JwtCookieProperties.class);
         jwtService = mock(JwtService.class);
         authenticationManager = mock(AuthenticationManager.class);
+        userEventPublisher = mock(UserEventPublisher.class);
 
         authService = new AuthService(
                 loginUserRepo,
@@ -46,7 +50,8 @@ public class AuthServiceTest {
                 jwtCookieProperties,
                 jwtService,
                 authenticationManager,
-                loginUserRepo
+                loginUserRepo,
+                userEventPublisher
         );
     }
 
@@ -105,6 +110,7 @@ public class AuthServiceTest {
         assertEquals("User registered successfully", response.message());
         assertEquals(HttpStatus.CREATED, response.status());
         verify(loginUserRepo).save(any(LoginUser.class));
+        verify(userEventPublisher).publish(any(LoginUser.class), eq(UserEventType.CREATED));
     }
 
     @Test
@@ -116,6 +122,7 @@ public class AuthServiceTest {
 
         assertEquals("Email already in use", exception.getMessage());
         verify(loginUserRepo, never()).save(any(LoginUser.class));
+        verify(userEventPublisher, never()).publish(any(), any());
     }
 
 }
\ No newline at end of file
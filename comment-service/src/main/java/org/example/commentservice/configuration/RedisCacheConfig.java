@@ -1,26 +1,37 @@
 package org.example.commentservice.configuration;
 
+import org.example.commentservice.dto.CommentResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                          @Value("${cache.codec.type:smile}") String codec,
+                                          @Value("${cache.codec.compression-threshold:1024}") int compressionThreshold) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .prefixCacheNameWith("task-pulse::")
                 .entryTtl(Duration.ofMinutes(10));
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config);
+        if ("smile".equals(codec)) {
+            CompactCacheCodec cacheCodec = new CompactCacheCodec(compressionThreshold);
+            builder.withCacheConfiguration("taskComments", config.serializeValuesWith(SerializationPair.fromSerializer(
+                    cacheCodec.serializer(cacheCodec.typeFactory().constructCollectionType(List.class, CommentResponse.class)))));
+        }
+        return builder.build();
     }
 }
 
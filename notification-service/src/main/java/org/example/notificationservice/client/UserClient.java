@@ -2,10 +2,17 @@ package org.example.notificationservice.client;
 
 import org.example.notificationservice.configuration.FeignClientConfig;
 import org.example.notificationservice.dto.User;
+import org.example.notificationservice.dto.UserEvent;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @FeignClient(
@@ -17,4 +24,11 @@ public interface UserClient {
 
     @GetMapping("/id/{userId}")
     User getUserById(@PathVariable("userId") UUID userId);
-}
\ No newline at end of file
+
+    @PostMapping("/users")
+    Map<UUID, User> getUsersByIds(@RequestBody Set<UUID> userIds);
+
+    @GetMapping("/snapshot")
+    List<UserEvent> getUserSnapshot(@RequestParam(value = "after", required = false) UUID after,
+                                    @RequestParam("size") int size);
+}
@@ -0,0 +1,50 @@
+package org.example.notificationservice.configuration;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.example.notificationservice.kafka.DeadLetterProducer;
+import org.example.notificationservice.kafka.KeyOrderedDispatcher;
+import org.example.notificationservice.kafka.RetryTier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    // Listener concurrency defaults to this count; more consumers than partitions would sit idle.
+    // Retry tiers and the DLT get the same layout so records stay keyed and ordered per recipient.
+    @Bean
+    public KafkaAdmin.NewTopics notificationTopics(@Value("${notifications.topic.partitions:3}") int partitions) {
+        List<NewTopic> topics = new ArrayList<>();
+        topics.add(TopicBuilder.name("notifications").partitions(partitions).build());
+        Arrays.stream(RetryTier.values())
+                .forEach(tier -> topics.add(TopicBuilder.name(tier.topic()).partitions(partitions).build()));
+        topics.add(TopicBuilder.name(DeadLetterProducer.DLT_TOPIC).partitions(partitions).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+
+    @Bean(destroyMethod = "close")
+    public KeyOrderedDispatcher notificationDispatcher(@Value("${notifications.consumer.worker-lanes:0}") int lanes) {
+        return new KeyOrderedDispatcher(lanes);
+    }
+
+    // Same settings as the Boot default factory (manual ack etc.), but hands each poll to the listener as one list.
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.notificationservice.controller;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.example.notificationservice.dto.DeadLetterFilter;
+import org.example.notificationservice.dto.DeadLetterRecord;
+import org.example.notificationservice.dto.DltReplayRequest;
+import org.example.notificationservice.model.DltReplayJob;
+import org.example.notificationservice.model.ScheduledJobRun;
+import org.example.notificationservice.service.DltReplayService;
+import org.example.notificationservice.service.ScheduledJobRunner;
+import org.example.notificationservice.service.UnreadCounterService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/notifications/admin")
+@AllArgsConstructor
+public class AdminController {
+
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final DltReplayService dltReplayService;
+    private final UnreadCounterService unreadCounterService;
+
+    @GetMapping("/jobs/runs")
+    public ResponseEntity<List<ScheduledJobRun>> getJobRuns(@RequestParam(required = false) String job) {
+        return ResponseEntity.ok(scheduledJobRunner.getRecentRuns(job));
+    }
+
+    @PostMapping("/unread-counters/reconcile")
+    public ResponseEntity<Integer> reconcileUnreadCounters() {
+        return ResponseEntity.ok(unreadCounterService.reconcileAll());
+    }
+
+    @GetMapping("/dlt")
+    public ResponseEntity<List<DeadLetterRecord>> getDeadLetters(@RequestParam(required = false) UUID recipientId,
+                                                                 @RequestParam(required = false) String error,
+                                                                 @RequestParam(required = false) Instant failedFrom,
+                                                                 @RequestParam(required = false) Instant failedTo,
+                                                                 @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(dltReplayService.getDeadLetters(new DeadLetterFilter(recipientId, error, failedFrom, failedTo), limit));
+    }
+
+    @PostMapping("/dlt/replays")
+    public ResponseEntity<DltReplayJob> startReplay(@Valid @RequestBody DltReplayRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(dltReplayService.startReplay(request));
+    }
+
+    @GetMapping("/dlt/replays")
+    public ResponseEntity<List<DltReplayJob>> getReplays() {
+        return ResponseEntity.ok(dltReplayService.getRecentReplays());
+    }
+
+    @GetMapping("/dlt/replays/{id}")
+    public ResponseEntity<DltReplayJob> getReplay(@PathVariable Long id) {
+        return ResponseEntity.ok(dltReplayService.getReplay(id));
+    }
+
+    @PostMapping("/dlt/replays/{id}/cancel")
+    public ResponseEntity<DltReplayJob> cancelReplay(@PathVariable Long id) {
+        return ResponseEntity.ok(dltReplayService.cancelReplay(id));
+    }
+
+    @PostMapping("/dlt/replays/{id}/resume")
+    public ResponseEntity<DltReplayJob> resumeReplay(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(dltReplayService.resumeReplay(id));
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.notificationservice.controller;
 
 import lombok.AllArgsConstructor;
+import org.example.notificationservice.dto.UnreadCount;
 import org.example.notificationservice.model.Notifications;
 import org.example.notificationservice.service.NotificationService;
+import org.example.notificationservice.service.UnreadCounterService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -17,6 +19,7 @@ import java.util.UUID;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final UnreadCounterService unreadCounterService;
 
     @GetMapping
     public ResponseEntity<List<Notifications>> getAllNotifications(@AuthenticationPrincipal Jwt jwt) {
@@ -28,6 +31,11 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getUnreadNotifications(UUID.fromString(jwt.getClaimAsString("id"))));
     }
 
+    @GetMapping("/unread/count")
+    public ResponseEntity<UnreadCount> getUnreadCount(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(unreadCounterService.getUnreadCount(UUID.fromString(jwt.getClaimAsString("id"))));
+    }
+
     @PutMapping("/mark-read")
     public ResponseEntity<Void> markNotificationsAsRead(@AuthenticationPrincipal Jwt jwt) {
         notificationService.readNotifications(UUID.fromString(jwt.getClaimAsString("id")));
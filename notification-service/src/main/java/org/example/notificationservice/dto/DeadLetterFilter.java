@@ -0,0 +1,19 @@
+package org.example.notificationservice.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeadLetterFilter(
+        UUID recipientId,
+        String errorContains,
+        Instant failedFrom,
+        Instant failedTo
+) {
+    public boolean matches(DeadLetterRecord record) {
+        if (recipientId != null && !recipientId.equals(record.recipientId())) return false;
+        if (errorContains != null && !errorContains.isBlank()
+                && (record.error() == null || !record.error().toLowerCase().contains(errorContains.toLowerCase()))) return false;
+        if (failedFrom != null && record.failedAt().isBefore(failedFrom)) return false;
+        return failedTo == null || record.failedAt().isBefore(failedTo);
+    }
+}
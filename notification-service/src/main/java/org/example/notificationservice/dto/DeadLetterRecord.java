@@ -0,0 +1,63 @@
+package org.example.notificationservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.example.notificationservice.kafka.DeadLetterProducer;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public record DeadLetterRecord(
+        int partition,
+        long offset,
+        Instant timestamp,
+        String key,
+        String value,
+        UUID recipientId,
+        boolean legacy,
+        int attempt,
+        boolean persisted,
+        String error,
+        Instant failedAt,
+        String originalTopic,
+        Integer originalPartition,
+        Long originalOffset
+) {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // The pre-retry-chain producer sent bare unkeyed payloads, and only after the notification had been saved.
+    public static DeadLetterRecord from(ConsumerRecord<String, String> record) {
+        boolean legacy = DeadLetterProducer.header(record, DeadLetterProducer.ORIGINAL_TOPIC_HEADER) == null;
+        return new DeadLetterRecord(
+                record.partition(),
+                record.offset(),
+                Instant.ofEpochMilli(record.timestamp()),
+                record.key(),
+                record.value(),
+                recipientId(record),
+                legacy,
+                DeadLetterProducer.attempt(record),
+                legacy || DeadLetterProducer.persisted(record),
+                DeadLetterProducer.header(record, DeadLetterProducer.ERROR_HEADER),
+                Optional.ofNullable(DeadLetterProducer.header(record, DeadLetterProducer.FAILED_AT_HEADER))
+                        .map(Instant::parse).orElse(Instant.ofEpochMilli(record.timestamp())),
+                DeadLetterProducer.header(record, DeadLetterProducer.ORIGINAL_TOPIC_HEADER),
+                Optional.ofNullable(DeadLetterProducer.header(record, DeadLetterProducer.ORIGINAL_PARTITION_HEADER))
+                        .map(Integer::valueOf).orElse(null),
+                Optional.ofNullable(DeadLetterProducer.header(record, DeadLetterProducer.ORIGINAL_OFFSET_HEADER))
+                        .map(Long::valueOf).orElse(null)
+        );
+    }
+
+    private static UUID recipientId(ConsumerRecord<String, String> record) {
+        try {
+            if (record.key() != null) return UUID.fromString(record.key());
+            JsonNode recipientId = JSON.readTree(record.value()).path("recipientId");
+            return recipientId.isTextual() ? UUID.fromString(recipientId.asText()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.notificationservice.dto;
+
+import jakarta.validation.constraints.Positive;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DltReplayRequest(
+        UUID recipientId,
+        String errorContains,
+        Instant failedFrom,
+        Instant failedTo,
+        @Positive Integer ratePerSecond,
+        @Positive Integer batchSize
+) {
+    public DeadLetterFilter filter() {
+        return new DeadLetterFilter(recipientId, errorContains, failedFrom, failedTo);
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.notificationservice.dto;
+
+public enum DltReplayStatus {
+    RUNNING, COMPLETED, CANCELLED, FAILED
+}
@@ -0,0 +1,4 @@
+package org.example.notificationservice.dto;
+
+// Kafka position a notification was first consumed from; it identifies the row across redeliveries and retry tiers.
+public record NotificationSource(String topic, int partition, long offset) {}
@@ -0,0 +1,7 @@
+package org.example.notificationservice.dto;
+
+import java.time.LocalDateTime;
+
+// updatedAt lets a client drop a pushed value that is older than the one it already shows.
+public record UnreadCount(long unread, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,13 @@
+package org.example.notificationservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserEvent(
+        UUID id,
+        String email,
+        String name,
+        User.Role role,
+        String type,
+        LocalDateTime updatedAt) {
+}
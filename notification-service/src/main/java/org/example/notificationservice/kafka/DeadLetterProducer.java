@@ -1,28 +1,121 @@
 package org.example.notificationservice.kafka;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.validation.Valid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.notificationservice.dto.NotificationRequest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.example.notificationservice.dto.NotificationSource;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Moves a failed notification to the next retry tier, or to the DLT once the tiers are used up.
+// The send is awaited so the caller only acks the source record after the copy is safely stored.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DeadLetterProducer {
 
+    public static final String DLT_TOPIC = "notifications.DLT";
+    public static final String ATTEMPT_HEADER = "notification-attempt";
+    public static final String PERSISTED_HEADER = "notification-persisted";
+    public static final String DUE_AT_HEADER = "notification-due-at";
+    public static final String ERROR_HEADER = "notification-error";
+    public static final String FAILED_AT_HEADER = "notification-failed-at";
+    public static final String ORIGINAL_TOPIC_HEADER = "notification-original-topic";
+    public static final String ORIGINAL_PARTITION_HEADER = "notification-original-partition";
+    public static final String ORIGINAL_OFFSET_HEADER = "notification-original-offset";
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
     private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public void retry(ConsumerRecord<String, String> record, boolean persisted, Exception cause) {
+        int attempt = attempt(record) + 1;
+        Optional<RetryTier> tier = RetryTier.forAttempt(attempt);
+        if (tier.isEmpty()) {
+            deadLetter(record, persisted, cause);
+            return;
+        }
+        Headers headers = headers(record, attempt, persisted, cause);
+        headers.add(DUE_AT_HEADER, bytes(String.valueOf(Instant.now().plus(tier.get().delay()).toEpochMilli())));
+        send(tier.get().topic(), record, headers);
+        Counter.builder("notifications.retry.routed").tag("tier", tier.get().label()).register(meterRegistry).increment();
+        log.warn("🔁 Notification {}-{}@{} failed (attempt {}), retrying via {}: {}",
+                record.topic(), record.partition(), record.offset(), attempt, tier.get().topic(), cause.toString());
+    }
+
+    public void deadLetter(ConsumerRecord<String, String> record, boolean persisted, Exception cause) {
+        send(DLT_TOPIC, record, headers(record, attempt(record) + 1, persisted, cause));
+        Counter.builder("notifications.retry.routed").tag("tier", "dlt").register(meterRegistry).increment();
+        log.error("📤 Sent notification {}-{}@{} to DLT: {}", record.topic(), record.partition(), record.offset(), cause.toString());
+    }
+
+    public static int attempt(ConsumerRecord<?, ?> record) {
+        return Optional.ofNullable(header(record, ATTEMPT_HEADER)).map(Integer::parseInt).orElse(0);
+    }
+
+    public static boolean persisted(ConsumerRecord<?, ?> record) {
+        return Boolean.parseBoolean(header(record, PERSISTED_HEADER));
+    }
 
-    public void send(String topic, @Valid NotificationRequest request) {
+    // The first failure's position, so a record keeps its identity through every retry tier and DLT replay.
+    public static NotificationSource source(ConsumerRecord<?, ?> record) {
+        String topic = header(record, ORIGINAL_TOPIC_HEADER);
+        if (topic == null) return new NotificationSource(record.topic(), record.partition(), record.offset());
+        return new NotificationSource(topic, Integer.parseInt(header(record, ORIGINAL_PARTITION_HEADER)),
+                Long.parseLong(header(record, ORIGINAL_OFFSET_HEADER)));
+    }
+
+    public static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private void send(String topic, ConsumerRecord<String, String> record, Headers headers) {
         try {
-            String json = objectMapper.writeValueAsString(request);
-            kafkaTemplate.send(topic, json);
-            log.info("📤 Sent to DLT: {} -> {}", topic, json);
+            kafkaTemplate.send(new ProducerRecord<>(topic, null, record.key(), record.value(), headers))
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while forwarding notification to " + topic, e);
         } catch (Exception e) {
-            log.error("❌ Failed to send to DLT: {}", e.getMessage(), e);
+            throw new IllegalStateException("Could not forward notification to " + topic, e);
         }
     }
-}
\ No newline at end of file
+
+    // The original position is kept from the first failure so the DLT points back at the source record.
+    private Headers headers(ConsumerRecord<String, String> record, int attempt, boolean persisted, Exception cause) {
+        RecordHeaders headers = new RecordHeaders(record.headers().toArray());
+        if (header(record, ORIGINAL_TOPIC_HEADER) == null) {
+            headers.add(ORIGINAL_TOPIC_HEADER, bytes(record.topic()));
+            headers.add(ORIGINAL_PARTITION_HEADER, bytes(String.valueOf(record.partition())));
+            headers.add(ORIGINAL_OFFSET_HEADER, bytes(String.valueOf(record.offset())));
+        }
+        replace(headers, ATTEMPT_HEADER, String.valueOf(attempt));
+        replace(headers, PERSISTED_HEADER, String.valueOf(persisted));
+        replace(headers, ERROR_HEADER, String.valueOf(cause));
+        replace(headers, FAILED_AT_HEADER, Instant.now().toString());
+        headers.remove(DUE_AT_HEADER);
+        return headers;
+    }
+
+    private static void replace(Headers headers, String name, String value) {
+        headers.remove(name);
+        headers.add(name, bytes(value));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,220 @@
+package org.example.notificationservice.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.*;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.example.notificationservice.dto.DeadLetterFilter;
+import org.example.notificationservice.dto.DeadLetterRecord;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Reads notifications.DLT without joining any consumer group, and re-drives records into notifications.
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayer {
+
+    public static final String REPLAYED_FROM_HEADER = "notification-replayed-from";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final List<String> RETRY_HEADERS = List.of(DeadLetterProducer.ATTEMPT_HEADER,
+            DeadLetterProducer.DUE_AT_HEADER, DeadLetterProducer.ERROR_HEADER, DeadLetterProducer.FAILED_AT_HEADER);
+
+    private final KafkaProperties kafkaProperties;
+
+    public Map<Integer, Long> endOffsets() {
+        try (Consumer<String, String> consumer = consumer(null, 1)) {
+            return byPartition(consumer.endOffsets(partitions(consumer)));
+        }
+    }
+
+    // Record timestamps on the DLT are the time of dead-lettering, so a time bound maps onto a start offset.
+    public Map<Integer, Long> startOffsets(Instant from) {
+        try (Consumer<String, String> consumer = consumer(null, 1)) {
+            List<TopicPartition> partitions = partitions(consumer);
+            Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+            if (from == null) return byPartition(beginning);
+            Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+            Map<TopicPartition, OffsetAndTimestamp> atTime = consumer.offsetsForTimes(partitions.stream()
+                    .collect(Collectors.toMap(tp -> tp, tp -> from.toEpochMilli())));
+            return partitions.stream().collect(Collectors.toMap(TopicPartition::partition,
+                    tp -> Optional.ofNullable(atTime.get(tp)).map(OffsetAndTimestamp::offset).orElse(end.get(tp))));
+        }
+    }
+
+    public List<DeadLetterRecord> browse(DeadLetterFilter filter, int limit, int scanLimit) {
+        Map<Integer, Long> start = startOffsets(filter.failedFrom());
+        try (Consumer<String, String> consumer = consumer(null, 500)) {
+            List<TopicPartition> partitions = partitions(consumer);
+            Map<Integer, Long> end = byPartition(consumer.endOffsets(partitions));
+            consumer.assign(partitions);
+            partitions.forEach(tp -> consumer.seek(tp, start.get(tp.partition())));
+            List<DeadLetterRecord> matches = new ArrayList<>();
+            int scanned = 0;
+            while (matches.size() < limit && scanned < scanLimit && !reached(consumer, end)) {
+                for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.offset() >= end.get(record.partition())) continue;
+                    scanned++;
+                    DeadLetterRecord deadLetter = DeadLetterRecord.from(record);
+                    if (filter.matches(deadLetter) && matches.size() < limit) matches.add(deadLetter);
+                }
+            }
+            matches.sort(Comparator.comparing(DeadLetterRecord::timestamp));
+            return matches;
+        }
+    }
+
+    public Session open(String replayId, Map<Integer, Long> startOffsets, int batchSize) {
+        return new Session(replayId, startOffsets, batchSize);
+    }
+
+    public static String encode(Map<Integer, Long> offsets) {
+        return offsets.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    public static Map<Integer, Long> decode(String offsets) {
+        if (offsets == null || offsets.isBlank()) return Map.of();
+        return Arrays.stream(offsets.split(","))
+                .map(entry -> entry.split(":"))
+                .collect(Collectors.toMap(parts -> Integer.parseInt(parts[0]), parts -> Long.parseLong(parts[1])));
+    }
+
+    // Each batch is one Kafka transaction: the replayed records and the replay group's DLT offsets commit together,
+    // so an interrupted replay resumes right after the last committed batch and never sends a record twice.
+    public class Session implements AutoCloseable {
+
+        private final String replayId;
+        private final Consumer<String, String> consumer;
+        private final KafkaProducer<String, String> producer;
+        private final List<TopicPartition> partitions;
+
+        private Session(String replayId, Map<Integer, Long> startOffsets, int batchSize) {
+            this.replayId = replayId;
+            this.consumer = consumer(replayId, batchSize);
+            this.partitions = partitions(consumer);
+            consumer.assign(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            partitions.forEach(tp -> consumer.seek(tp, Optional.ofNullable(committed.get(tp))
+                    .map(OffsetAndMetadata::offset)
+                    .orElse(startOffsets.getOrDefault(tp.partition(), 0L))));
+
+            Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+            props.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, replayId);
+            props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            props.put(ProducerConfig.ACKS_CONFIG, "all");
+            this.producer = new KafkaProducer<>(props, new StringSerializer(), new StringSerializer());
+            producer.initTransactions();
+        }
+
+        public Map<Integer, Long> positions() {
+            return partitions.stream().collect(Collectors.toMap(TopicPartition::partition, consumer::position));
+        }
+
+        public boolean done(Map<Integer, Long> endOffsets) {
+            return reached(consumer, endOffsets);
+        }
+
+        // Returns how many matching records went back to notifications in this batch.
+        public int replayNext(Map<Integer, Long> endOffsets, DeadLetterFilter filter) {
+            ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            int replayed = 0;
+            producer.beginTransaction();
+            try {
+                for (ConsumerRecord<String, String> record : records) {
+                    long end = endOffsets.getOrDefault(record.partition(), 0L);
+                    if (record.offset() >= end) continue;
+                    DeadLetterRecord deadLetter = DeadLetterRecord.from(record);
+                    if (filter.matches(deadLetter)) {
+                        producer.send(replayRecord(record, deadLetter));
+                        replayed++;
+                    }
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                }
+                if (!offsets.isEmpty()) producer.sendOffsetsToTransaction(offsets, new ConsumerGroupMetadata(replayId));
+                producer.commitTransaction();
+            } catch (RuntimeException e) {
+                // A fenced producer means another session took over this replay id; it cannot abort either.
+                if (!fenced(e)) producer.abortTransaction();
+                throw e;
+            }
+            // Records past the end offset were read but not replayed; stop those partitions from moving further.
+            partitions.stream()
+                    .filter(tp -> consumer.position(tp) > endOffsets.getOrDefault(tp.partition(), 0L))
+                    .forEach(tp -> consumer.seek(tp, endOffsets.getOrDefault(tp.partition(), 0L)));
+            return replayed;
+        }
+
+        @Override
+        public void close() {
+            producer.close(Duration.ofSeconds(10));
+            consumer.close();
+        }
+    }
+
+    private static boolean fenced(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProducerFencedException) return true;
+        }
+        return false;
+    }
+
+    // Legacy records carry no persisted header or key; mark them persisted and key them by recipient again.
+    private ProducerRecord<String, String> replayRecord(ConsumerRecord<String, String> record, DeadLetterRecord deadLetter) {
+        RecordHeaders headers = new RecordHeaders(record.headers().toArray());
+        RETRY_HEADERS.forEach(headers::remove);
+        headers.remove(REPLAYED_FROM_HEADER);
+        headers.add(REPLAYED_FROM_HEADER, bytes(record.partition() + "@" + record.offset()));
+        if (deadLetter.persisted()) {
+            headers.remove(DeadLetterProducer.PERSISTED_HEADER);
+            headers.add(DeadLetterProducer.PERSISTED_HEADER, bytes("true"));
+        }
+        String key = record.key() != null || deadLetter.recipientId() == null ? record.key() : deadLetter.recipientId().toString();
+        return new ProducerRecord<>("notifications", null, key, record.value(), headers);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean reached(Consumer<String, String> consumer, Map<Integer, Long> endOffsets) {
+        return consumer.assignment().isEmpty()
+                ? endOffsets.isEmpty()
+                : consumer.assignment().stream().allMatch(tp -> consumer.position(tp) >= endOffsets.getOrDefault(tp.partition(), 0L));
+    }
+
+    private Consumer<String, String> consumer(String groupId, int maxPollRecords) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        if (groupId != null) props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return new KafkaConsumer<>(props, new StringDeserializer(), new StringDeserializer());
+    }
+
+    private List<TopicPartition> partitions(Consumer<String, String> consumer) {
+        return consumer.partitionsFor(DeadLetterProducer.DLT_TOPIC).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    private Map<Integer, Long> byPartition(Map<TopicPartition, Long> offsets) {
+        return offsets.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().partition(), Map.Entry::getValue));
+    }
+}
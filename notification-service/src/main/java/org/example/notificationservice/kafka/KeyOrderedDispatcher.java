@@ -0,0 +1,66 @@
+package org.example.notificationservice.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Splits a batch into lanes by key hash and runs the lanes in parallel; items sharing a key stay in one lane, in order.
+// dispatch() returns only when every lane is done, so the caller can ack the batch afterwards.
+@Slf4j
+public class KeyOrderedDispatcher implements AutoCloseable {
+
+    private final int lanes;
+    private final ExecutorService executor;
+
+    public KeyOrderedDispatcher(int lanes) {
+        this.lanes = Math.max(lanes, 1);
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = this.lanes == 1 ? null : Executors.newFixedThreadPool(this.lanes, runnable -> {
+            Thread thread = new Thread(runnable, "notification-lane-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> void dispatch(List<T> items, Function<T, ?> key, Consumer<List<T>> handler) {
+        if (executor == null || items.size() < 2) {
+            if (!items.isEmpty()) handler.accept(items);
+            return;
+        }
+        Map<Integer, List<T>> byLane = new LinkedHashMap<>();
+        items.forEach(item -> byLane.computeIfAbsent(lane(key.apply(item)), lane -> new ArrayList<>()).add(item));
+        if (byLane.size() == 1) {
+            handler.accept(items);
+            return;
+        }
+        CompletableFuture<?>[] running = byLane.values().stream()
+                .map(laneItems -> CompletableFuture.runAsync(() -> handler.accept(laneItems), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(running).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public int lanes() {
+        return lanes;
+    }
+
+    private int lane(Object key) {
+        return Math.floorMod(Objects.hashCode(key), lanes);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) executor.shutdown();
+    }
+}
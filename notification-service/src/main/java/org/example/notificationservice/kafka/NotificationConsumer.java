@@ -1,17 +1,29 @@
 package org.example.notificationservice.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.notificationservice.dto.NotificationRequest;
+import org.example.notificationservice.dto.NotificationSource;
 import org.example.notificationservice.dto.User;
 import org.example.notificationservice.service.NotificationService;
 import org.example.notificationservice.service.UserService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,32 +34,143 @@ public class NotificationConsumer {
     private final SimpMessagingTemplate messagingTemplate;
     private final UserService userService;
     private final DeadLetterProducer deadLetterProducer;
+    private final MeterRegistry meterRegistry;
+    private final KeyOrderedDispatcher dispatcher;
+
+    // One poll at a time: a single insert batch, one user lookup and one ack for the whole list.
+    // With worker lanes enabled, recipients are spread over lanes and each lane runs that pipeline on its share.
+    @KafkaListener(id = "notification-batch", topics = "notifications", groupId = "notification-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency = "${notifications.consumer.concurrency:3}",
+            autoStartup = "${notifications.consumer.batch-enabled:true}")
+    public void consumeNotifications(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        long startedAt = System.nanoTime();
+        List<Inbound> notifications = new ArrayList<>(records.size());
+        records.forEach(record -> parse(record).ifPresent(notifications::add));
+        dispatcher.dispatch(notifications, inbound -> inbound.request().recipientId(), this::process);
+        ack.acknowledge();
+
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("notifications.consumer.batch.latency").register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("notifications.consumer.batch.records").register(meterRegistry).record(records.size());
+        Counter.builder("notifications.consumer.records").register(meterRegistry).increment(records.size());
+        log.info("📥 Processed {} notifications in {} ms ({} records/s)", records.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed), elapsed == 0 ? 0 : records.size() * 1_000_000_000L / elapsed);
+    }
+
+    @KafkaListener(id = "notification-single", topics = "notifications", groupId = "notification-group",
+            concurrency = "${notifications.consumer.concurrency:3}",
+            autoStartup = "#{!${notifications.consumer.batch-enabled:true}}")
+    public void consumeNotification(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        parse(record).ifPresent(inbound -> process(List.of(inbound)));
+        ack.acknowledge();
+    }
+
+    // Each tier has its own container, so a record waiting out its delay only holds back later records of that tier.
+    @KafkaListener(id = "notification-retry-1s", topics = "notifications-retry-1s", groupId = "notification-retry-group")
+    @KafkaListener(id = "notification-retry-10s", topics = "notifications-retry-10s", groupId = "notification-retry-group")
+    @KafkaListener(id = "notification-retry-60s", topics = "notifications-retry-60s", groupId = "notification-retry-group")
+    public void consumeRetry(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        long wait = Optional.ofNullable(DeadLetterProducer.header(record, DeadLetterProducer.DUE_AT_HEADER))
+                .map(dueAt -> Long.parseLong(dueAt) - System.currentTimeMillis())
+                .orElse(0L);
+        if (wait > 0) {
+            ack.nack(Duration.ofMillis(wait));
+            return;
+        }
+        parse(record).ifPresent(inbound -> {
+            if (process(List.of(inbound)) == 1) {
+                RetryTier.forTopic(record.topic()).ifPresent(tier -> Counter.builder("notifications.retry.recovered")
+                        .tag("tier", tier.label()).register(meterRegistry).increment());
+            }
+        });
+        ack.acknowledge();
+    }
 
-    @KafkaListener(topics = "notifications", groupId = "notification-group")
-    public void consumeNotification(String message, Acknowledgment ack) {
+    // Returns how many notifications reached their recipient; the rest were handed to the retry chain.
+    private int process(List<Inbound> notifications) {
+        List<Inbound> stored = persist(notifications);
+        Map<UUID, User> users = userService.getUsersByIds(stored.stream()
+                .map(inbound -> inbound.request().recipientId())
+                .collect(Collectors.toSet()));
+        int delivered = 0;
+        for (Inbound inbound : stored) {
+            if (deliver(inbound, users.get(inbound.request().recipientId()))) delivered++;
+        }
+        return delivered;
+    }
+
+    // A failing batch insert falls back to row-by-row so one bad row does not send the whole batch to retry.
+    private List<Inbound> persist(List<Inbound> notifications) {
+        List<Inbound> pending = notifications.stream().filter(inbound -> !inbound.persisted()).toList();
+        if (pending.isEmpty()) return notifications;
         try {
-            NotificationRequest notification = objectMapper.readValue(message, NotificationRequest.class);
-            log.info("📥 Kafka message received for user: {}", notification.recipientId());
-            notificationService.saveNotification(notification);
-            log.info("✅ Notification saved successfully for user: {}", notification.recipientId());
-            User user = userService.getUserById(notification.recipientId());
-            System.out.println(user);
-            if (user == null) {
-                deadLetterProducer.send("notifications.DLT", notification);
-                ack.acknowledge();
-                log.warn("⚠️ Could not fetch user info (fallback/null) for ID: {}. Skipping WebSocket delivery.",
-                        notification.recipientId());
-                return;
+            notificationService.saveNotifications(requests(pending));
+            return notifications;
+        } catch (RuntimeException batchFailure) {
+            if (pending.size() == 1) {
+                deadLetterProducer.retry(pending.getFirst().record(), false, batchFailure);
+                return notifications.stream().filter(Inbound::persisted).toList();
+            }
+            log.warn("⚠️ Batch insert of {} notifications failed, saving one by one: {}", pending.size(), batchFailure.toString());
+        }
+        List<Inbound> stored = new ArrayList<>();
+        for (Inbound inbound : notifications) {
+            if (!inbound.persisted()) {
+                try {
+                    notificationService.saveNotifications(requests(List.of(inbound)));
+                } catch (RuntimeException e) {
+                    deadLetterProducer.retry(inbound.record(), false, e);
+                    continue;
+                }
             }
-            messagingTemplate.convertAndSendToUser(
-                    user.email(),
-                    "/queue/notifications",
-                    notification);
-            ack.acknowledge();
-            log.info("📤 Real-time notification sent to user: {}", user.email());
+            stored.add(inbound);
+        }
+        return stored;
+    }
+
+    private static Map<NotificationSource, NotificationRequest> requests(List<Inbound> notifications) {
+        Map<NotificationSource, NotificationRequest> requests = new LinkedHashMap<>();
+        notifications.forEach(inbound -> requests.put(inbound.source(), inbound.request()));
+        return requests;
+    }
+
+    private boolean deliver(Inbound inbound, User user) {
+        NotificationRequest notification = inbound.request();
+        if (user == null) {
+            log.warn("⚠️ Could not fetch user info (fallback/null) for ID: {}. Scheduling WebSocket delivery retry.",
+                    notification.recipientId());
+            deadLetterProducer.retry(inbound.record(), true,
+                    new IllegalStateException("User " + notification.recipientId() + " could not be resolved"));
+            return false;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(user.email(), "/queue/notifications", notification);
+            return true;
+        } catch (RuntimeException e) {
+            deadLetterProducer.retry(inbound.record(), true, e);
+            return false;
+        }
+    }
+
+    // Malformed payloads will not parse on a later attempt either, so they skip the retry tiers.
+    private Optional<Inbound> parse(ConsumerRecord<String, String> record) {
+        try {
+            return Optional.of(new Inbound(record, parse(record.value()), DeadLetterProducer.persisted(record),
+                    DeadLetterProducer.source(record)));
         } catch (Exception e) {
-            log.error("❌ Failed to process Kafka message: {}", message, e);
+            log.error("❌ Malformed Kafka message at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), record.value(), e);
+            deadLetterProducer.deadLetter(record, false, e);
+            return Optional.empty();
         }
     }
 
-}
\ No newline at end of file
+    // Records produced before task-service switched to StringSerializer arrive as a JSON-quoted string.
+    private NotificationRequest parse(String message) throws JsonProcessingException {
+        String json = message.startsWith("\"") ? objectMapper.readValue(message, String.class) : message;
+        return objectMapper.readValue(json, NotificationRequest.class);
+    }
+
+    private record Inbound(ConsumerRecord<String, String> record, NotificationRequest request, boolean persisted,
+                           NotificationSource source) {}
+}
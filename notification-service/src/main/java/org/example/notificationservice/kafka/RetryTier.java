@@ -0,0 +1,40 @@
+package org.example.notificationservice.kafka;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum RetryTier {
+    FIRST("notifications-retry-1s", Duration.ofSeconds(1)),
+    SECOND("notifications-retry-10s", Duration.ofSeconds(10)),
+    THIRD("notifications-retry-60s", Duration.ofSeconds(60));
+
+    private final String topic;
+    private final Duration delay;
+
+    RetryTier(String topic, Duration delay) {
+        this.topic = topic;
+        this.delay = delay;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public Duration delay() {
+        return delay;
+    }
+
+    public String label() {
+        return topic.substring(topic.lastIndexOf('-') + 1);
+    }
+
+    // attempt is the number of failed attempts so far; once it passes the last tier the record goes to the DLT.
+    public static Optional<RetryTier> forAttempt(int attempt) {
+        return attempt < 1 || attempt > values().length ? Optional.empty() : Optional.of(values()[attempt - 1]);
+    }
+
+    public static Optional<RetryTier> forTopic(String topic) {
+        return Arrays.stream(values()).filter(tier -> tier.topic.equals(topic)).findFirst();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.notificationservice.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.notificationservice.dto.UserEvent;
+import org.example.notificationservice.service.UserProjectionService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+    private final ObjectMapper objectMapper;
+    private final UserProjectionService userProjectionService;
+
+    @KafkaListener(topics = "user-events", groupId = "notification-service-user-projection")
+    public void consume(String message, Acknowledgment ack) {
+        try {
+            userProjectionService.apply(objectMapper.readValue(message, UserEvent.class), "event");
+        } catch (JsonProcessingException e) {
+            log.error("❌ Skipping malformed user event: {}", message, e);
+        }
+        ack.acknowledge();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.notificationservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.notificationservice.dto.DeadLetterFilter;
+import org.example.notificationservice.dto.DltReplayStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_dlt_replay_job_status", columnList = "status")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DltReplayJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DltReplayStatus status;
+
+    private UUID recipientId;
+
+    private String errorContains;
+
+    private Instant failedFrom;
+
+    private Instant failedTo;
+
+    @Column(nullable = false)
+    private int ratePerSecond;
+
+    @Column(nullable = false)
+    private int batchSize;
+
+    // Per-partition DLT offsets as "partition:offset,..."; the range is fixed when the job is created.
+    @Column(nullable = false, length = 2048)
+    private String startOffsets;
+
+    @Column(nullable = false, length = 2048)
+    private String endOffsets;
+
+    private long total;
+
+    private long scanned;
+
+    private long replayed;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1024)
+    private String error;
+
+    // Only the instance holding an unexpired lease drives the job; it is renewed before every batch.
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    public DeadLetterFilter filter() {
+        return new DeadLetterFilter(recipientId, errorContains, failedFrom, failedTo);
+    }
+
+    // Kafka keeps the replay position for this group, committed in the same transaction as the replayed records.
+    public String replayId() {
+        return "notification-dlt-replay-" + id;
+    }
+}
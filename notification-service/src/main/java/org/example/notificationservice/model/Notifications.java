@@ -7,6 +7,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notifications_recipient_read", columnList = "recipient_id, read")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notifications_source", columnNames = {"source_topic", "source_partition", "source_offset"})
+})
 @Getter
 @Setter
 @Builder
@@ -15,7 +20,8 @@ import java.util.UUID;
 public class Notifications {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     private String message;
@@ -28,4 +34,11 @@ public class Notifications {
 
     @Column(nullable = false)
     private LocalDateTime timestamp;
+
+    // Set for rows consumed from Kafka, so a redelivered poll cannot insert the same record twice.
+    private String sourceTopic;
+
+    private Integer sourcePartition;
+
+    private Long sourceOffset;
 }
@@ -0,0 +1,26 @@
+package org.example.notificationservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCounter {
+    @Id
+    private UUID recipientId;
+
+    @Column(nullable = false)
+    private long unread;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
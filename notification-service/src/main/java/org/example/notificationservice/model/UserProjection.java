@@ -0,0 +1,38 @@
+package org.example.notificationservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.notificationservice.dto.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProjection {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private User.Role role;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    public User toUser() {
+        return new User(id, email, name, role);
+    }
+}
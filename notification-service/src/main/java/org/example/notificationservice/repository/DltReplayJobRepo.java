@@ -0,0 +1,75 @@
+package org.example.notificationservice.repository;
+
+import org.example.notificationservice.dto.DltReplayStatus;
+import org.example.notificationservice.model.DltReplayJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DltReplayJobRepo extends JpaRepository<DltReplayJob, Long> {
+
+    List<DltReplayJob> findTop50ByOrderByCreatedAtDesc();
+
+    Optional<DltReplayJob> findFirstByStatus(DltReplayStatus status);
+
+    @Query("""
+            SELECT j FROM DltReplayJob j
+            WHERE j.status = :status AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)
+            """)
+    List<DltReplayJob> findAllByStatusWithExpiredLease(@Param("status") DltReplayStatus status,
+                                                       @Param("now") LocalDateTime now);
+
+    // Takes a free or expired lease, or renews it for its owner. 0 means another instance drives the job or it
+    // is no longer RUNNING.
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE DltReplayJob j SET j.leaseOwner = :owner, j.leaseUntil = :until
+            WHERE j.id = :id AND j.status = :status
+              AND (j.leaseOwner = :owner OR j.leaseUntil IS NULL OR j.leaseUntil < :now)
+            """)
+    int acquireLease(@Param("id") Long id, @Param("status") DltReplayStatus status, @Param("owner") String owner,
+                     @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE DltReplayJob j SET j.scanned = :scanned, j.replayed = j.replayed + :replayed, j.updatedAt = :now
+            WHERE j.id = :id AND j.leaseOwner = :owner
+            """)
+    int recordProgress(@Param("id") Long id, @Param("owner") String owner, @Param("scanned") long scanned,
+                       @Param("replayed") long replayed, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE DltReplayJob j SET j.status = :status, j.updatedAt = :now, j.finishedAt = :finishedAt, j.error = :error
+            WHERE j.id = :id AND j.status IN :expected
+            """)
+    int transition(@Param("id") Long id, @Param("expected") List<DltReplayStatus> expected,
+                   @Param("status") DltReplayStatus status, @Param("now") LocalDateTime now,
+                   @Param("finishedAt") LocalDateTime finishedAt, @Param("error") String error);
+
+    // Ends a RUNNING job only for the lease owner, so a session fenced by a newer owner cannot mark it FAILED.
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE DltReplayJob j
+            SET j.status = :status, j.updatedAt = :now, j.finishedAt = :now, j.error = :error,
+                j.leaseOwner = NULL, j.leaseUntil = NULL
+            WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = :expected
+            """)
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("expected") DltReplayStatus expected,
+               @Param("status") DltReplayStatus status, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE DltReplayJob j SET j.leaseOwner = NULL, j.leaseUntil = NULL WHERE j.id = :id AND j.leaseOwner = :owner")
+    int releaseLease(@Param("id") Long id, @Param("owner") String owner);
+}
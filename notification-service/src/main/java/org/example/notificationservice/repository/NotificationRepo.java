@@ -7,18 +7,36 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface NotificationRepo extends JpaRepository<Notifications, Long> {
 
+    @Transactional
     @Modifying
     @Query("DELETE FROM Notifications n WHERE n.timestamp < :cutoff")
     int deleteByTimestampBefore(@Param("cutoff") LocalDateTime cutoff);
 
+    // A concurrent mark-read only updates rows still unread, so each row is counted by exactly one caller.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notifications n SET n.read = true WHERE n.recipientId = :recipientId AND n.read = false")
+    int markAllRead(@Param("recipientId") UUID recipientId);
+
+    @Query("""
+            SELECT n.sourceOffset FROM Notifications n
+            WHERE n.sourceTopic = :topic AND n.sourcePartition = :partition AND n.sourceOffset IN :offsets
+            """)
+    Set<Long> findStoredOffsets(@Param("topic") String topic, @Param("partition") int partition,
+                                @Param("offsets") Collection<Long> offsets);
+
     List<Notifications> findAllByRecipientId(UUID recipientId, Sort sort);
     List<Notifications> findAllByRecipientIdAndRead(UUID recipientId, boolean read, Sort sort);
+    long countByRecipientIdAndRead(UUID recipientId, boolean read);
 }
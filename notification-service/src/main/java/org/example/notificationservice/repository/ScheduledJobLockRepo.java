@@ -0,0 +1,42 @@
+package org.example.notificationservice.repository;
+
+import org.example.notificationservice.model.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ScheduledJobLockRepo extends JpaRepository<ScheduledJobLock, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduled_job_lock (name, locked_until, locked_at)
+            VALUES (:name, :now, :now)
+            ON CONFLICT (name) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ScheduledJobLock l
+            SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :instanceId
+            WHERE l.name = :name AND l.lockedUntil <= :now
+            """)
+    int acquire(@Param("name") String name, @Param("instanceId") String instanceId,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ScheduledJobLock l
+            SET l.lockedUntil = :releaseAt
+            WHERE l.name = :name AND l.lockedBy = :instanceId
+            """)
+    int release(@Param("name") String name, @Param("instanceId") String instanceId,
+                @Param("releaseAt") LocalDateTime releaseAt);
+}
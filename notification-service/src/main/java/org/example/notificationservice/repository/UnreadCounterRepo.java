@@ -0,0 +1,60 @@
+package org.example.notificationservice.repository;
+
+import org.example.notificationservice.model.UnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface UnreadCounterRepo extends JpaRepository<UnreadCounter, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO unread_counter (recipient_id, unread, updated_at)
+            VALUES (:recipientId, :delta, :now)
+            ON CONFLICT (recipient_id) DO UPDATE
+            SET unread = unread_counter.unread + EXCLUDED.unread, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void increment(@Param("recipientId") UUID recipientId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO unread_counter (recipient_id, unread, updated_at)
+            VALUES (:recipientId, 0, :now)
+            ON CONFLICT (recipient_id) DO UPDATE
+            SET unread = GREATEST(unread_counter.unread - :delta, 0), updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void decrement(@Param("recipientId") UUID recipientId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    // Creates the row if needed and holds its lock until the surrounding transaction ends.
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO unread_counter (recipient_id, unread, updated_at)
+            VALUES (:recipientId, 0, :now)
+            ON CONFLICT (recipient_id) DO UPDATE SET updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void lock(@Param("recipientId") UUID recipientId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UnreadCounter c SET c.unread = :unread, c.updatedAt = :now WHERE c.recipientId = :recipientId")
+    int set(@Param("recipientId") UUID recipientId, @Param("unread") long unread, @Param("now") LocalDateTime now);
+
+    @Query(value = """
+            SELECT COALESCE(c.recipient_id, n.recipient_id)
+            FROM unread_counter c
+            FULL JOIN (
+                SELECT recipient_id, COUNT(*) AS unread FROM notifications WHERE read = false GROUP BY recipient_id
+            ) n ON n.recipient_id = c.recipient_id
+            WHERE COALESCE(c.unread, 0) <> COALESCE(n.unread, 0)
+            """, nativeQuery = true)
+    List<UUID> findDrifted();
+}
@@ -0,0 +1,119 @@
+package org.example.notificationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+@Slf4j
+public class CoalescingLoader<K, V> implements AutoCloseable {
+
+    private final String name;
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final DistributionSummary batchSizes;
+    private final Counter requests;
+    private final ScheduledExecutorService timer;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private Set<K> queued = new HashSet<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public CoalescingLoader(String name, Function<Set<K>, Map<K, V>> loader, Duration window,
+                            int maxBatchSize, Duration timeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.loader = loader;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.batchSizes = DistributionSummary.builder("coalescer.batch.size").tag("loader", name).register(meterRegistry);
+        this.requests = Counter.builder("coalescer.requests").tag("loader", name).register(meterRegistry);
+        Gauge.builder("coalescer.window", window, Duration::toMillis)
+                .tag("loader", name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name(name + "-coalescer").factory());
+    }
+
+    public Map<K, V> loadAll(Set<? extends K> keys) {
+        requests.increment();
+        Map<K, CompletableFuture<V>> futures = new HashMap<>();
+        Set<K> enqueued = new HashSet<>();
+        for (K key : keys) {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing == null) enqueued.add(key);
+            futures.put(key, existing != null ? existing : created);
+        }
+        if (!enqueued.isEmpty()) enqueue(enqueued);
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("⚠️ Coalesced {} lookup did not complete for {} keys - {}", name, keys.size(), e.toString());
+        }
+        Map<K, V> result = new HashMap<>();
+        futures.forEach((key, future) -> {
+            V value = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+            if (value != null) result.put(key, value);
+        });
+        return result;
+    }
+
+    private void enqueue(Set<K> keys) {
+        synchronized (lock) {
+            queued.addAll(keys);
+            if (queued.size() >= maxBatchSize) {
+                if (scheduledFlush != null) scheduledFlush.cancel(false);
+                flush();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = timer.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flush() {
+        Set<K> batch;
+        synchronized (lock) {
+            batch = queued;
+            queued = new HashSet<>();
+            scheduledFlush = null;
+        }
+        // A single large caller can queue far more than maxBatchSize keys; each request stays within the cap.
+        List<K> keys = new ArrayList<>(batch);
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            Set<K> slice = new HashSet<>(keys.subList(from, Math.min(from + maxBatchSize, keys.size())));
+            Thread.startVirtualThread(() -> load(slice));
+        }
+    }
+
+    private void load(Set<K> batch) {
+        batchSizes.record(batch.size());
+        Map<K, V> loaded;
+        try {
+            loaded = Objects.requireNonNullElse(loader.apply(batch), Map.of());
+        } catch (Exception e) {
+            log.warn("⚠️ Coalesced {} load failed for {} keys - {}", name, batch.size(), e.getMessage());
+            loaded = Map.of();
+        }
+        for (K key : batch) {
+            CompletableFuture<V> future = inFlight.remove(key);
+            if (future != null) future.complete(loaded.get(key));
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
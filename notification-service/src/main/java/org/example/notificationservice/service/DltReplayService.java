@@ -0,0 +1,184 @@
+package org.example.notificationservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.notificationservice.dto.DeadLetterFilter;
+import org.example.notificationservice.dto.DeadLetterRecord;
+import org.example.notificationservice.dto.DltReplayRequest;
+import org.example.notificationservice.dto.DltReplayStatus;
+import org.example.notificationservice.exception.ResourceNotFoundException;
+import org.example.notificationservice.kafka.DeadLetterReplayer;
+import org.example.notificationservice.model.DltReplayJob;
+import org.example.notificationservice.repository.DltReplayJobRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class DltReplayService {
+
+    private static final List<DltReplayStatus> RESUMABLE = List.of(DltReplayStatus.CANCELLED, DltReplayStatus.FAILED);
+
+    private final DltReplayJobRepo jobRepo;
+    private final DeadLetterReplayer replayer;
+    private final int defaultRatePerSecond;
+    private final int defaultBatchSize;
+    private final int browseScanLimit;
+    private final Duration lease;
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public DltReplayService(DltReplayJobRepo jobRepo,
+                            DeadLetterReplayer replayer,
+                            @Value("${dlt-replay.rate-per-second:50}") int defaultRatePerSecond,
+                            @Value("${dlt-replay.batch-size:100}") int defaultBatchSize,
+                            @Value("${dlt-replay.browse-scan-limit:10000}") int browseScanLimit,
+                            @Value("${dlt-replay.lease:60s}") Duration lease) {
+        this.jobRepo = jobRepo;
+        this.replayer = replayer;
+        this.defaultRatePerSecond = defaultRatePerSecond;
+        this.defaultBatchSize = defaultBatchSize;
+        this.browseScanLimit = browseScanLimit;
+        this.lease = lease;
+    }
+
+    public List<DeadLetterRecord> getDeadLetters(DeadLetterFilter filter, int limit) {
+        if (limit < 1 || limit > 1000) throw new IllegalArgumentException("limit must be between 1 and 1000");
+        return replayer.browse(filter, limit, browseScanLimit);
+    }
+
+    // The DLT range is pinned at creation, so records dead-lettered while the replay runs are left for a later one.
+    public DltReplayJob startReplay(DltReplayRequest request) {
+        jobRepo.findFirstByStatus(DltReplayStatus.RUNNING).ifPresent(running -> {
+            throw new IllegalArgumentException("DLT replay " + running.getId() + " is still running");
+        });
+        Map<Integer, Long> start = replayer.startOffsets(request.failedFrom());
+        Map<Integer, Long> end = replayer.endOffsets();
+        DltReplayJob job = jobRepo.save(DltReplayJob.builder()
+                .status(DltReplayStatus.RUNNING)
+                .recipientId(request.recipientId())
+                .errorContains(request.errorContains())
+                .failedFrom(request.failedFrom())
+                .failedTo(request.failedTo())
+                .ratePerSecond(request.ratePerSecond() != null ? request.ratePerSecond() : defaultRatePerSecond)
+                .batchSize(request.batchSize() != null ? request.batchSize() : defaultBatchSize)
+                .startOffsets(DeadLetterReplayer.encode(start))
+                .endOffsets(DeadLetterReplayer.encode(end))
+                .total(end.entrySet().stream().mapToLong(e -> Math.max(0, e.getValue() - start.getOrDefault(e.getKey(), 0L))).sum())
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.info("♻️ Starting DLT replay {} over {} records at {} records/s", job.getId(), job.getTotal(), job.getRatePerSecond());
+        launch(job);
+        return job;
+    }
+
+    public DltReplayJob resumeReplay(Long id) {
+        DltReplayJob job = getReplay(id);
+        if (job.getStatus() == DltReplayStatus.COMPLETED) throw new IllegalArgumentException("DLT replay " + id + " already completed");
+        // A job that is already RUNNING belongs to its lease holder; the expired-lease sweep picks it up if that died.
+        if (jobRepo.transition(id, RESUMABLE, DltReplayStatus.RUNNING, LocalDateTime.now(), null, null) == 1) launch(job);
+        return getReplay(id);
+    }
+
+    public DltReplayJob cancelReplay(Long id) {
+        getReplay(id);
+        LocalDateTime now = LocalDateTime.now();
+        jobRepo.transition(id, List.of(DltReplayStatus.RUNNING), DltReplayStatus.CANCELLED, now, now, null);
+        return getReplay(id);
+    }
+
+    public DltReplayJob getReplay(Long id) {
+        return jobRepo.findById(id).orElseThrow(() -> new ResourceNotFoundException("DLT replay not found: " + id));
+    }
+
+    public List<DltReplayJob> getRecentReplays() {
+        return jobRepo.findTop50ByOrderByCreatedAtDesc();
+    }
+
+    // A crash or restart leaves RUNNING jobs whose lease runs out; whichever instance takes the lease first carries
+    // on from the offsets the last transaction committed, the others skip the job.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${dlt-replay.resume-check-interval:PT1M}")
+    public void resumeInterrupted() {
+        jobRepo.findAllByStatusWithExpiredLease(DltReplayStatus.RUNNING, LocalDateTime.now()).forEach(job -> {
+            if (active.contains(job.getId())) return;
+            log.info("♻️ Resuming interrupted DLT replay {}", job.getId());
+            launch(job);
+        });
+    }
+
+    private void launch(DltReplayJob job) {
+        if (!active.add(job.getId())) return;
+        Thread.startVirtualThread(() -> {
+            try {
+                run(job);
+            } finally {
+                active.remove(job.getId());
+            }
+        });
+    }
+
+    // The lease is taken before the session opens: opening fences any producer still running under the replay id.
+    void run(DltReplayJob job) {
+        if (!renewLease(job)) {
+            log.info("⏭️ Skipping DLT replay {} - lease is held by another instance or the job stopped", job.getId());
+            return;
+        }
+        Map<Integer, Long> start = DeadLetterReplayer.decode(job.getStartOffsets());
+        Map<Integer, Long> end = DeadLetterReplayer.decode(job.getEndOffsets());
+        DeadLetterFilter filter = job.filter();
+        try (DeadLetterReplayer.Session session = replayer.open(job.replayId(), start, job.getBatchSize())) {
+            long startedAt = System.nanoTime();
+            long replayed = 0;
+            while (!session.done(end)) {
+                if (!renewLease(job)) {
+                    log.info("⏹️ DLT replay {} stopped after {} records", job.getId(), replayed);
+                    return;
+                }
+                int batch = session.replayNext(end, filter);
+                replayed += batch;
+                jobRepo.recordProgress(job.getId(), instanceId, scanned(session.positions(), start), batch, LocalDateTime.now());
+                pace(startedAt, replayed, job.getRatePerSecond());
+            }
+            jobRepo.finish(job.getId(), instanceId, DltReplayStatus.RUNNING, DltReplayStatus.COMPLETED, LocalDateTime.now(), null);
+            log.info("✅ DLT replay {} completed, {} records replayed", job.getId(), replayed);
+        } catch (Exception e) {
+            log.error("❌ DLT replay {} failed: {}", job.getId(), e.getMessage(), e);
+            String error = e.getMessage();
+            jobRepo.finish(job.getId(), instanceId, DltReplayStatus.RUNNING, DltReplayStatus.FAILED, LocalDateTime.now(),
+                    error != null && error.length() > 1024 ? error.substring(0, 1024) : error);
+        } finally {
+            jobRepo.releaseLease(job.getId(), instanceId);
+        }
+    }
+
+    // Covers one paced batch, so a slow rate cannot let the lease lapse between two renewals.
+    private boolean renewLease(DltReplayJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        Duration batchTime = Duration.ofSeconds(job.getBatchSize() / Math.max(1, job.getRatePerSecond()) + 1);
+        return jobRepo.acquireLease(job.getId(), DltReplayStatus.RUNNING, instanceId, now, now.plus(lease).plus(batchTime)) == 1;
+    }
+
+    private long scanned(Map<Integer, Long> positions, Map<Integer, Long> start) {
+        return positions.entrySet().stream()
+                .mapToLong(e -> Math.max(0, e.getValue() - start.getOrDefault(e.getKey(), 0L)))
+                .sum();
+    }
+
+    private void pace(long startedAt, long replayed, int ratePerSecond) throws InterruptedException {
+        long dueNanos = TimeUnit.SECONDS.toNanos(replayed) / ratePerSecond;
+        long aheadNanos = dueNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos > 0) TimeUnit.NANOSECONDS.sleep(aheadNanos);
+    }
+}
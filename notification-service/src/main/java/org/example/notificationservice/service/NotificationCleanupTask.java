@@ -6,8 +6,8 @@ import org.example.notificationservice.repository.NotificationRepo;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -16,20 +16,21 @@ import java.time.LocalDateTime;
 public class NotificationCleanupTask {
 
     private final NotificationRepo notificationRepo;
+    private final ScheduledJobRunner scheduledJobRunner;
 
     @Value("${notifications.retention-days:30}")
     private int retentionDays;
 
-    @Transactional
     @Scheduled(cron = "0 0 0 * * ?")
+    public void scheduleCleanup() {
+        scheduledJobRunner.runLocked("notification-cleanup", Duration.ofMinutes(30), Duration.ofMinutes(1),
+                this::cleanupOldNotifications);
+    }
+
     public void cleanupOldNotifications() {
         log.info("Starting notification cleanup...");
-        try {
-            int deletedCount = deleteOldNotifications();
-            log.info("Cleanup complete. Deleted {} old notifications.", deletedCount);
-        } catch (Exception e) {
-            log.error("Error during notification cleanup: {}", e.getMessage(), e);
-        }
+        int deletedCount = deleteOldNotifications();
+        log.info("Cleanup complete. Deleted {} old notifications.", deletedCount);
     }
 
     private int deleteOldNotifications() {
@@ -4,14 +4,16 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.notificationservice.dto.NotificationRequest;
+import org.example.notificationservice.dto.NotificationSource;
 import org.example.notificationservice.model.Notifications;
 import org.example.notificationservice.repository.NotificationRepo;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -19,7 +21,9 @@ import java.util.UUID;
 public class NotificationService {
 
     private final NotificationRepo notificationRepository;
+    private final UnreadCounterService unreadCounterService;
 
+    @Transactional
     public void saveNotification(@Valid NotificationRequest request) {
         notificationRepository.save(
                 Notifications.builder()
@@ -29,6 +33,44 @@ public class NotificationService {
                         .timestamp(LocalDateTime.now())
                         .build()
         );
+        if (!request.read()) unreadCounterService.increment(Map.of(request.recipientId(), 1L));
+    }
+
+    // Records already stored by an earlier delivery of the same poll are skipped, and not counted again.
+    @Transactional
+    public void saveNotifications(Map<NotificationSource, NotificationRequest> requests) {
+        Set<NotificationSource> stored = storedSources(requests.keySet());
+        if (!stored.isEmpty()) log.info("♻️ Skipping {} notifications already stored by an earlier delivery", stored.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<NotificationSource, NotificationRequest>> fresh = requests.entrySet().stream()
+                .filter(entry -> !stored.contains(entry.getKey()))
+                .toList();
+        notificationRepository.saveAll(fresh.stream()
+                .map(entry -> Notifications.builder()
+                        .recipientId(entry.getValue().recipientId())
+                        .read(entry.getValue().read())
+                        .message(entry.getValue().message())
+                        .timestamp(now)
+                        .sourceTopic(entry.getKey().topic())
+                        .sourcePartition(entry.getKey().partition())
+                        .sourceOffset(entry.getKey().offset())
+                        .build())
+                .toList());
+        unreadCounterService.increment(fresh.stream()
+                .map(Map.Entry::getValue)
+                .filter(request -> !request.read())
+                .collect(Collectors.groupingBy(NotificationRequest::recipientId, Collectors.counting())));
+    }
+
+    private Set<NotificationSource> storedSources(Set<NotificationSource> sources) {
+        Set<NotificationSource> stored = new HashSet<>();
+        sources.stream()
+                .collect(Collectors.groupingBy(source -> Map.entry(source.topic(), source.partition()),
+                        Collectors.mapping(NotificationSource::offset, Collectors.toSet())))
+                .forEach((position, offsets) -> notificationRepository
+                        .findStoredOffsets(position.getKey(), position.getValue(), offsets)
+                        .forEach(offset -> stored.add(new NotificationSource(position.getKey(), position.getValue(), offset))));
+        return stored;
     }
 
     public List<Notifications> getUsersNotifications(UUID userId) {
@@ -43,10 +85,10 @@ public class NotificationService {
         );
     }
 
+    // Decrements by the rows actually marked instead of zeroing, so a notification inserted meanwhile stays counted.
+    @Transactional
     public void readNotifications(UUID userId) {
-        List<Notifications> notifications = getUnreadNotifications(userId);
-        notifications.forEach(notification -> notification.setRead(true));
-        notificationRepository.saveAll(notifications);
+        unreadCounterService.decrement(userId, notificationRepository.markAllRead(userId));
     }
 
 }
\ No newline at end of file
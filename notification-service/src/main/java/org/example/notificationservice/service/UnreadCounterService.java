@@ -0,0 +1,120 @@
+package org.example.notificationservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.notificationservice.dto.UnreadCount;
+import org.example.notificationservice.dto.User;
+import org.example.notificationservice.model.UnreadCounter;
+import org.example.notificationservice.repository.NotificationRepo;
+import org.example.notificationservice.repository.UnreadCounterRepo;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCounterService {
+
+    public static final String COUNTER_DESTINATION = "/queue/unread-count";
+
+    private static final String RECONCILE_JOB = "unread-counter-reconcile";
+
+    private final UnreadCounterRepo unreadCounterRepo;
+    private final NotificationRepo notificationRepo;
+    private final UserService userService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TransactionTemplate transactionTemplate;
+
+    // Runs inside the caller's transaction so the counter only moves if the notification rows commit.
+    public void increment(Map<UUID, Long> unreadByRecipient) {
+        if (unreadByRecipient.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        // Sorted so two batches sharing recipients always lock counter rows in the same order.
+        new TreeMap<>(unreadByRecipient).forEach((recipientId, delta) -> unreadCounterRepo.increment(recipientId, delta, now));
+        pushAfterCommit(unreadByRecipient.keySet());
+    }
+
+    public void decrement(UUID recipientId, long marked) {
+        if (marked == 0) return;
+        unreadCounterRepo.decrement(recipientId, marked, LocalDateTime.now());
+        pushAfterCommit(Set.of(recipientId));
+    }
+
+    public UnreadCount getUnreadCount(UUID recipientId) {
+        return unreadCounterRepo.findById(recipientId)
+                .map(counter -> new UnreadCount(counter.getUnread(), counter.getUpdatedAt()))
+                .orElseGet(() -> reconcile(recipientId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Thread.startVirtualThread(this::scheduleReconcile);
+    }
+
+    @Scheduled(cron = "${notifications.unread-counter.reconcile-cron:0 15 4 * * *}")
+    public void scheduleReconcile() {
+        scheduledJobRunner.runLocked(RECONCILE_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), this::reconcileAll);
+    }
+
+    public int reconcileAll() {
+        List<UUID> drifted = unreadCounterRepo.findDrifted();
+        drifted.forEach(this::reconcile);
+        push(new HashSet<>(drifted));
+        log.info("🔢 Unread counter reconciliation corrected {} recipients", drifted.size());
+        return drifted.size();
+    }
+
+    // Locking the counter row before counting means every insert that already bumped it is visible to the count,
+    // and any insert still in flight waits and increments on top of the corrected value.
+    public UnreadCount reconcile(UUID recipientId) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            unreadCounterRepo.lock(recipientId, now);
+            long unread = notificationRepo.countByRecipientIdAndRead(recipientId, false);
+            unreadCounterRepo.set(recipientId, unread, now);
+            return new UnreadCount(unread, now);
+        });
+    }
+
+    private void pushAfterCommit(Set<UUID> recipientIds) {
+        Set<UUID> targets = Set.copyOf(recipientIds);
+        Runnable push = () -> Thread.startVirtualThread(() -> push(targets));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            push.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                push.run();
+            }
+        });
+    }
+
+    // Sends the stored value rather than a delta, so a lost or reordered push is fixed by the next one.
+    private void push(Set<UUID> recipientIds) {
+        if (recipientIds.isEmpty()) return;
+        try {
+            Map<UUID, User> users = userService.getUsersByIds(recipientIds);
+            for (UnreadCounter counter : unreadCounterRepo.findAllById(recipientIds)) {
+                User user = users.get(counter.getRecipientId());
+                if (user == null) continue;
+                messagingTemplate.convertAndSendToUser(user.email(), COUNTER_DESTINATION,
+                        new UnreadCount(counter.getUnread(), counter.getUpdatedAt()));
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to push unread counts for {} recipients: {}", recipientIds.size(), e.getMessage());
+        }
+    }
+}
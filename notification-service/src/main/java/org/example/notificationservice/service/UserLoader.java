@@ -0,0 +1,48 @@
+package org.example.notificationservice.service;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.annotation.Retry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.notificationservice.client.UserClient;
+import org.example.notificationservice.dto.User;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserLoader {
+
+    private final UserClient userClient;
+
+    @CircuitBreaker(name = "userServiceCB", fallbackMethod = "getFallbackUser")
+    @Retry(name = "userServiceRetry", fallbackMethod = "getFallbackUser")
+    @RateLimiter(name = "userServiceRateLimiter", fallbackMethod = "getFallbackUser")
+    public User loadUser(UUID id) {
+        log.info("🔍 Fetching user with ID: {}", id);
+        return userClient.getUserById(id);
+    }
+
+    @CircuitBreaker(name = "userServiceCB", fallbackMethod = "getFallbackUsers")
+    @Retry(name = "userServiceRetry", fallbackMethod = "getFallbackUsers")
+    @RateLimiter(name = "userServiceRateLimiter", fallbackMethod = "getFallbackUsers")
+    public Map<UUID, User> loadUsers(Set<UUID> ids) {
+        log.info("🔍 Fetching {} users in one batch", ids.size());
+        return userClient.getUsersByIds(ids);
+    }
+
+    @SuppressWarnings("unused")
+    public User getFallbackUser(UUID id, Throwable t) {
+        log.error("🛑 Fallback triggered for userId {} due to {}", id, t.toString());
+        return null;
+    }
+
+    @SuppressWarnings("unused")
+    public Map<UUID, User> getFallbackUsers(Set<UUID> ids, Throwable t) {
+        log.error("🛑 Fallback triggered for {} users due to {}", ids.size(), t.toString());
+        return Collections.emptyMap();
+    }
+}
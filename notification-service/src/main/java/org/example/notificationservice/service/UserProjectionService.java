@@ -0,0 +1,74 @@
+package org.example.notificationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.notificationservice.client.UserClient;
+import org.example.notificationservice.dto.UserEvent;
+import org.example.notificationservice.repository.UserProjectionRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProjectionService {
+
+    private static final String SNAPSHOT_JOB = "user-projection-snapshot";
+
+    private final UserProjectionRepo userProjectionRepo;
+    private final UserClient userClient;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user-projection.bootstrap-enabled:true}")
+    private boolean bootstrapEnabled;
+
+    @Value("${user-projection.snapshot-page-size:500}")
+    private int pageSize;
+
+    public boolean apply(UserEvent event, String source) {
+        boolean applied = userProjectionRepo.upsert(event.id(), event.email(), event.name(),
+                event.role().name(), event.updatedAt(), LocalDateTime.now()) > 0;
+        Counter.builder("user.projection.updates")
+                .tags("source", source, "result", applied ? "applied" : "stale")
+                .register(meterRegistry)
+                .increment();
+        return applied;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (bootstrapEnabled) Thread.startVirtualThread(this::resync);
+    }
+
+    @Scheduled(cron = "${user-projection.resync-cron:0 30 3 * * *}")
+    public void resync() {
+        scheduledJobRunner.runLocked(SNAPSHOT_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), this::loadSnapshot);
+    }
+
+    void loadSnapshot() {
+        UUID after = null;
+        int total = 0;
+        List<UserEvent> page;
+        do {
+            page = userClient.getUserSnapshot(after, pageSize);
+            List<UserEvent> batch = page;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(event -> apply(event, "snapshot")));
+            total += page.size();
+            if (!page.isEmpty()) after = page.getLast().id();
+        } while (page.size() == pageSize);
+        log.info("👥 User projection snapshot loaded {} users", total);
+    }
+}
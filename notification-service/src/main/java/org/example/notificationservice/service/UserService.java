@@ -1,34 +1,65 @@
 package org.example.notificationservice.service;
 
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.example.notificationservice.client.UserClient;
 import org.example.notificationservice.dto.User;
+import org.example.notificationservice.model.UserProjection;
+import org.example.notificationservice.repository.UserProjectionRepo;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.util.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
-    private final UserClient userClient;
+    private final UserLoader userLoader;
+    private final UserProjectionRepo userProjectionRepo;
+    private final CoalescingLoader<UUID, User> coalescingLoader;
+
+    public UserService(UserLoader userLoader,
+                       UserProjectionRepo userProjectionRepo,
+                       MeterRegistry meterRegistry,
+                       @Value("${user-batch.window:10ms}") Duration batchWindow,
+                       @Value("${user-batch.max-size:200}") int maxBatchSize,
+                       @Value("${user-batch.timeout:15s}") Duration batchTimeout) {
+        this.userLoader = userLoader;
+        this.userProjectionRepo = userProjectionRepo;
+        this.coalescingLoader = new CoalescingLoader<>("userDirectory", this::loadBatch,
+                batchWindow, maxBatchSize, batchTimeout, meterRegistry);
+    }
 
-    @CircuitBreaker(name = "userServiceCB", fallbackMethod = "getFallbackUser")
-    @Retry(name = "userServiceRetry", fallbackMethod = "getFallbackUser")
-    @RateLimiter(name = "userServiceRateLimiter", fallbackMethod = "getFallbackUser")
     public User getUserById(UUID id) {
-        log.info("🔍 Fetching user with ID: {}", id);
-        return userClient.getUserById(id);
+        return userProjectionRepo.findById(id)
+                .map(UserProjection::toUser)
+                .orElseGet(() -> coalescingLoader.loadAll(Set.of(id)).get(id));
+    }
+
+    // Reads the local projection first; only users it has not seen yet go to auth-service.
+    public Map<UUID, User> getUsersByIds(Set<UUID> ids) {
+        if (ids.isEmpty()) return Map.of();
+        Map<UUID, User> result = new HashMap<>();
+        userProjectionRepo.findAllById(ids).forEach(projection -> result.put(projection.getId(), projection.toUser()));
+        if (result.size() < ids.size()) {
+            Set<UUID> missing = new HashSet<>(ids);
+            missing.removeAll(result.keySet());
+            result.putAll(coalescingLoader.loadAll(missing));
+        }
+        return result;
+    }
+
+    private Map<UUID, User> loadBatch(Set<UUID> ids) {
+        if (ids.size() > 1) return userLoader.loadUsers(ids);
+        UUID id = ids.iterator().next();
+        User user = userLoader.loadUser(id);
+        return user == null ? Map.of() : Map.of(id, user);
     }
 
-    @SuppressWarnings("unused")
-    public User getFallbackUser(UUID id, Throwable t) {
-        log.error("🛑 Fallback triggered for userId {} due to {}", id, t.toString());
-        return null;
+    @PreDestroy
+    public void shutdown() {
+        coalescingLoader.close();
     }
 }
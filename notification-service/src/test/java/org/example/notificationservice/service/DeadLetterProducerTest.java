@@ -0,0 +1,97 @@
+package org.example.notificationservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.example.notificationservice.kafka.DeadLetterProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DeadLetterProducerTest {
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private DeadLetterProducer producer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        producer = new DeadLetterProducer(kafkaTemplate, meterRegistry);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+    }
+
+    @Test
+    void shouldWalkThroughRetryTiersAndThenDeadLetter() {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("notifications", 2, 42L, "recipient", "{}");
+
+        ProducerRecord<String, String> first = forward(record, false);
+        ProducerRecord<String, String> second = forward(redelivered(first), true);
+        ProducerRecord<String, String> third = forward(redelivered(second), true);
+        ProducerRecord<String, String> dead = forward(redelivered(third), true);
+
+        assertThat(first.topic()).isEqualTo("notifications-retry-1s");
+        assertThat(second.topic()).isEqualTo("notifications-retry-10s");
+        assertThat(third.topic()).isEqualTo("notifications-retry-60s");
+        assertThat(dead.topic()).isEqualTo(DeadLetterProducer.DLT_TOPIC);
+        assertThat(dead.key()).isEqualTo("recipient");
+        assertThat(header(dead, DeadLetterProducer.ATTEMPT_HEADER)).isEqualTo("4");
+        assertThat(header(dead, DeadLetterProducer.PERSISTED_HEADER)).isEqualTo("true");
+        assertThat(header(dead, DeadLetterProducer.ORIGINAL_TOPIC_HEADER)).isEqualTo("notifications");
+        assertThat(header(dead, DeadLetterProducer.ORIGINAL_PARTITION_HEADER)).isEqualTo("2");
+        assertThat(header(dead, DeadLetterProducer.ORIGINAL_OFFSET_HEADER)).isEqualTo("42");
+        assertThat(dead.headers().lastHeader(DeadLetterProducer.DUE_AT_HEADER)).isNull();
+        assertThat(dead.headers().headers(DeadLetterProducer.ORIGINAL_OFFSET_HEADER)).hasSize(1);
+        assertThat(meterRegistry.get("notifications.retry.routed").tag("tier", "10s").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notifications.retry.routed").tag("tier", "dlt").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSetDueTimeFromTierDelay() {
+        long before = System.currentTimeMillis();
+
+        ProducerRecord<String, String> sent = forward(new ConsumerRecord<>("notifications", 0, 1L, "k", "{}"), false);
+
+        assertThat(Long.parseLong(header(sent, DeadLetterProducer.DUE_AT_HEADER))).isBetween(before + 1_000, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFailWhenForwardIsNotAcknowledgedSoSourceStaysUnacked() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThatThrownBy(() -> producer.retry(new ConsumerRecord<>("notifications", 0, 1L, "k", "{}"), false, new RuntimeException("x")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, String> forward(ConsumerRecord<String, String> record, boolean persisted) {
+        clearInvocations(kafkaTemplate);
+        producer.retry(record, persisted, new IllegalStateException("boom"));
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private ConsumerRecord<String, String> redelivered(ProducerRecord<String, String> sent) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(sent.topic(), 0, 7L, sent.key(), sent.value());
+        sent.headers().forEach(header -> record.headers().add(header));
+        return record;
+    }
+
+    private String header(ProducerRecord<String, String> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+}
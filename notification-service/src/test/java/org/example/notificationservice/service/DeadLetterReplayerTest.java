@@ -0,0 +1,153 @@
+package org.example.notificationservice.service;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.example.notificationservice.dto.DeadLetterFilter;
+import org.example.notificationservice.dto.DeadLetterRecord;
+import org.example.notificationservice.kafka.DeadLetterProducer;
+import org.example.notificationservice.kafka.DeadLetterReplayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EmbeddedKafka(partitions = 2, topics = {DeadLetterProducer.DLT_TOPIC, "notifications"},
+        brokerProperties = {"transaction.state.log.replication.factor=1", "transaction.state.log.min.isr=1"})
+class DeadLetterReplayerTest {
+
+    private static final int UNRESOLVED = 20;
+    private static final int OTHER = 10;
+
+    private EmbeddedKafkaBroker broker;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.setBootstrapServers(List.of(broker.getBrokersAsString()));
+        replayer = new DeadLetterReplayer(kafkaProperties);
+    }
+
+    @Test
+    void shouldFilterAndReplayEachRecordExactlyOnceAcrossAnInterruptedSession() {
+        Map<Integer, Long> start = replayer.endOffsets();
+        Set<String> recipients = publishDeadLetters();
+        Map<Integer, Long> end = replayer.endOffsets();
+        DeadLetterFilter filter = new DeadLetterFilter(null, "could not be resolved", null, null);
+
+        List<DeadLetterRecord> listed = replayer.browse(filter, 100, 1000);
+        assertThat(listed).hasSize(UNRESOLVED).allMatch(record -> record.persisted() && record.attempt() == 4);
+
+        // The first session is cut off after one batch; a second one with the same id takes over and fences it.
+        DeadLetterReplayer.Session interrupted = replayer.open("replay-test", start, 5);
+        interrupted.replayNext(end, filter);
+        try (DeadLetterReplayer.Session resumed = replayer.open("replay-test", start, 5)) {
+            assertThatThrownBy(() -> interrupted.replayNext(end, filter)).isInstanceOf(ProducerFencedException.class);
+            while (!resumed.done(end)) resumed.replayNext(end, filter);
+        } finally {
+            interrupted.close();
+        }
+
+        List<ConsumerRecord<String, String>> replayed = readNotifications(recipients, UNRESOLVED);
+        assertThat(replayed).hasSize(UNRESOLVED);
+        assertThat(replayed.stream().map(record -> header(record, DeadLetterReplayer.REPLAYED_FROM_HEADER)).distinct()).hasSize(UNRESOLVED);
+        assertThat(replayed).allSatisfy(record -> {
+            assertThat(header(record, DeadLetterProducer.PERSISTED_HEADER)).isEqualTo("true");
+            assertThat(record.headers().lastHeader(DeadLetterProducer.ATTEMPT_HEADER)).isNull();
+        });
+    }
+
+    @Test
+    void shouldReplayLegacyRecordAsPersistedAndKeyedByPayloadRecipient() {
+        UUID recipient = UUID.randomUUID();
+        Map<Integer, Long> start = replayer.endOffsets();
+        try (KafkaProducer<String, String> producer = producer()) {
+            producer.send(new ProducerRecord<>(DeadLetterProducer.DLT_TOPIC,
+                    "{\"message\":\"legacy\",\"recipientId\":\"" + recipient + "\",\"read\":false}"));
+        }
+        Map<Integer, Long> end = replayer.endOffsets();
+        DeadLetterFilter filter = new DeadLetterFilter(recipient, null, null, null);
+
+        assertThat(replayer.browse(filter, 10, 1000)).singleElement().satisfies(record -> {
+            assertThat(record.key()).isNull();
+            assertThat(record.legacy()).isTrue();
+            assertThat(record.persisted()).isTrue();
+            assertThat(record.recipientId()).isEqualTo(recipient);
+        });
+        try (DeadLetterReplayer.Session session = replayer.open("legacy-replay-test", start, 5)) {
+            while (!session.done(end)) session.replayNext(end, filter);
+        }
+
+        assertThat(readNotifications(Set.of(recipient.toString()), 1)).singleElement().satisfies(record ->
+                assertThat(header(record, DeadLetterProducer.PERSISTED_HEADER)).isEqualTo("true"));
+    }
+
+    private Set<String> publishDeadLetters() {
+        Set<String> recipients = new HashSet<>();
+        try (KafkaProducer<String, String> producer = producer()) {
+            for (int i = 0; i < UNRESOLVED + OTHER; i++) {
+                String recipient = UUID.randomUUID().toString();
+                recipients.add(recipient);
+                ProducerRecord<String, String> record = new ProducerRecord<>(DeadLetterProducer.DLT_TOPIC, recipient,
+                        "{\"message\":\"m" + i + "\",\"recipientId\":\"" + recipient + "\",\"read\":false}");
+                record.headers().add(DeadLetterProducer.ATTEMPT_HEADER, bytes("4"));
+                record.headers().add(DeadLetterProducer.PERSISTED_HEADER, bytes("true"));
+                record.headers().add(DeadLetterProducer.ERROR_HEADER, bytes(i < UNRESOLVED
+                        ? "java.lang.IllegalStateException: User " + recipient + " could not be resolved"
+                        : "java.lang.IllegalStateException: STOMP broker unavailable"));
+                producer.send(record);
+            }
+            producer.flush();
+        }
+        return recipients;
+    }
+
+    private KafkaProducer<String, String> producer() {
+        return new KafkaProducer<>(KafkaTestUtils.producerProps(broker), new StringSerializer(), new StringSerializer());
+    }
+
+    // Only records keyed by this test's recipients count; other tests replay into the same topic.
+    private List<ConsumerRecord<String, String>> readNotifications(Set<String> recipients, int expected) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("replay-verifier", "false", broker);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props, new StringDeserializer(), new StringDeserializer())) {
+            consumer.subscribe(List.of("notifications"));
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + 10_000;
+            Consumer<ConsumerRecord<String, String>> collect = record -> {
+                if (recipients.contains(record.key())) records.add(record);
+            };
+            while (records.size() < expected && System.currentTimeMillis() < deadline) {
+                consumer.poll(Duration.ofMillis(500)).forEach(collect);
+            }
+            // One more poll so a duplicate arriving after the expected count would still be seen.
+            consumer.poll(Duration.ofSeconds(1)).forEach(collect);
+            return records;
+        }
+    }
+
+    private String header(ConsumerRecord<String, String> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
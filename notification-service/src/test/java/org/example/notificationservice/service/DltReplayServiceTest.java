@@ -0,0 +1,122 @@
+package org.example.notificationservice.service;
+
+import org.example.notificationservice.dto.DeadLetterFilter;
+import org.example.notificationservice.dto.DltReplayRequest;
+import org.example.notificationservice.dto.DltReplayStatus;
+import org.example.notificationservice.kafka.DeadLetterReplayer;
+import org.example.notificationservice.model.DltReplayJob;
+import org.example.notificationservice.repository.DltReplayJobRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DltReplayServiceTest {
+
+    private DltReplayJobRepo jobRepo;
+    private DeadLetterReplayer replayer;
+    private DeadLetterReplayer.Session session;
+    private DltReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(DltReplayJobRepo.class);
+        replayer = mock(DeadLetterReplayer.class);
+        session = mock(DeadLetterReplayer.Session.class);
+        service = new DltReplayService(jobRepo, replayer, 1000, 100, 10000, Duration.ofSeconds(60));
+        when(replayer.open(anyString(), anyMap(), anyInt())).thenReturn(session);
+        when(jobRepo.acquireLease(eq(7L), eq(DltReplayStatus.RUNNING), anyString(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void shouldRejectSecondReplayWhileOneIsRunning() {
+        when(jobRepo.findFirstByStatus(DltReplayStatus.RUNNING)).thenReturn(Optional.of(job()));
+
+        assertThatThrownBy(() -> service.startReplay(new DltReplayRequest(null, null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(jobRepo, never()).save(any());
+    }
+
+    @Test
+    void shouldReplayUntilEndOffsetsAndRecordProgress() {
+        when(session.done(anyMap())).thenReturn(false, false, true);
+        when(session.replayNext(anyMap(), any(DeadLetterFilter.class))).thenReturn(3, 2);
+        when(session.positions()).thenReturn(Map.of(0, 13L, 1, 20L), Map.of(0, 15L, 1, 25L));
+
+        service.run(job());
+
+        verify(replayer).open(eq("notification-dlt-replay-7"), eq(Map.of(0, 10L, 1, 20L)), eq(100));
+        verify(jobRepo).recordProgress(eq(7L), anyString(), eq(3L), eq(3L), any());
+        verify(jobRepo).recordProgress(eq(7L), anyString(), eq(10L), eq(2L), any());
+        verify(jobRepo).finish(eq(7L), anyString(), eq(DltReplayStatus.RUNNING), eq(DltReplayStatus.COMPLETED), any(), isNull());
+        verify(jobRepo).releaseLease(eq(7L), anyString());
+        verify(session).close();
+    }
+
+    @Test
+    void shouldStopBetweenBatchesOnceCancelledOrLeaseIsLost() {
+        when(jobRepo.acquireLease(eq(7L), eq(DltReplayStatus.RUNNING), anyString(), any(), any())).thenReturn(1, 1, 0);
+        when(session.done(anyMap())).thenReturn(false);
+        when(session.replayNext(anyMap(), any(DeadLetterFilter.class))).thenReturn(5);
+        when(session.positions()).thenReturn(Map.of(0, 15L, 1, 20L));
+
+        service.run(job());
+
+        verify(session, times(1)).replayNext(anyMap(), any(DeadLetterFilter.class));
+        verify(jobRepo, never()).finish(anyLong(), anyString(), any(), eq(DltReplayStatus.COMPLETED), any(), any());
+    }
+
+    @Test
+    void shouldNotOpenSessionWhileAnotherInstanceHoldsTheLease() {
+        when(jobRepo.acquireLease(eq(7L), eq(DltReplayStatus.RUNNING), anyString(), any(), any())).thenReturn(0);
+
+        service.run(job());
+
+        verifyNoInteractions(replayer);
+        verify(jobRepo, never()).finish(anyLong(), anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldOnlyLaunchResumeWhenTransitionSucceeds() {
+        DltReplayJob running = job();
+        when(jobRepo.findById(7L)).thenReturn(Optional.of(running));
+        when(jobRepo.transition(eq(7L), anyList(), eq(DltReplayStatus.RUNNING), any(), isNull(), isNull())).thenReturn(0);
+
+        service.resumeReplay(7L);
+
+        verify(jobRepo, after(200).never()).acquireLease(anyLong(), any(), anyString(), any(), any());
+        verifyNoInteractions(replayer);
+    }
+
+    @Test
+    void shouldMarkJobFailedWhenSessionBreaks() {
+        when(session.done(anyMap())).thenReturn(false);
+        when(session.replayNext(anyMap(), any(DeadLetterFilter.class))).thenThrow(new IllegalStateException("broker gone"));
+
+        service.run(job());
+
+        verify(jobRepo).finish(eq(7L), anyString(), eq(DltReplayStatus.RUNNING), eq(DltReplayStatus.FAILED), any(), eq("broker gone"));
+    }
+
+    private DltReplayJob job() {
+        return DltReplayJob.builder()
+                .id(7L)
+                .status(DltReplayStatus.RUNNING)
+                .ratePerSecond(1000)
+                .batchSize(100)
+                .startOffsets("0:10,1:20")
+                .endOffsets("0:15,1:25")
+                .total(10)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
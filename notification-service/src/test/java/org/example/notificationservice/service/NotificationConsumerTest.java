@@ -1,9 +1,14 @@
 package org.example.notificationservice.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.example.notificationservice.dto.NotificationRequest;
+import org.example.notificationservice.dto.NotificationSource;
 import org.example.notificationservice.dto.User;
 import org.example.notificationservice.kafka.DeadLetterProducer;
+import org.example.notificationservice.kafka.KeyOrderedDispatcher;
 import org.example.notificationservice.kafka.NotificationConsumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +17,15 @@ import org.mockito.*;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 public class NotificationConsumerTest {
@@ -24,8 +36,8 @@ public class NotificationConsumerTest {
     @Mock
     private NotificationService notificationService;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @Mock
     private SimpMessagingTemplate messagingTemplate;
@@ -39,6 +51,12 @@ public class NotificationConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(1);
+
     private AutoCloseable closeable;
 
     @BeforeEach
@@ -52,54 +70,169 @@ public class NotificationConsumerTest {
     }
 
     @Test
-    void shouldProcessNotificationAndSendWebSocketMessage() throws Exception {
+    void shouldProcessNotificationAndSendWebSocketMessage() {
         UUID userId = UUID.randomUUID();
-        String message = "{\"recipientId\":\"" + userId + "\",\"message\":\"Hi\",\"read\":false}";
-
         NotificationRequest request = new NotificationRequest("Hi", userId, false);
         User user = new User(userId, "user@example.com", "User", User.Role.WORKER);
+        when(userService.getUsersByIds(Set.of(userId))).thenReturn(Map.of(userId, user));
+
+        consumer.consumeNotification(record("notifications", 0, json(request)), acknowledgment);
+
+        verify(notificationService).saveNotifications(Map.of(source(0), request));
+        verify(messagingTemplate).convertAndSendToUser("user@example.com", "/queue/notifications", request);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(deadLetterProducer);
+    }
 
-        when(objectMapper.readValue(eq(message), eq(NotificationRequest.class))).thenReturn(request);
-        when(userService.getUserById(userId)).thenReturn(user);
+    @Test
+    void shouldScheduleRetryIfUserNotFound() {
+        UUID userId = UUID.randomUUID();
+        NotificationRequest request = new NotificationRequest("Hi", userId, false);
+        ConsumerRecord<String, String> record = record("notifications", 0, json(request));
+        when(userService.getUsersByIds(Set.of(userId))).thenReturn(Map.of());
 
-        consumer.consumeNotification(message, acknowledgment);
+        consumer.consumeNotification(record, acknowledgment);
 
-        verify(notificationService).saveNotification(request);
-        verify(messagingTemplate).convertAndSendToUser(
-                eq("user@example.com"), eq("/queue/notifications"), eq(request)
-        );
+        verify(notificationService).saveNotifications(Map.of(source(0), request));
+        verify(deadLetterProducer).retry(eq(record), eq(true), any(IllegalStateException.class));
         verify(acknowledgment).acknowledge();
+        verifyNoInteractions(messagingTemplate);
     }
 
     @Test
-    void shouldSendToDLTIfUserNotFound() throws Exception {
+    void shouldSendMalformedMessageStraightToDlt() {
+        ConsumerRecord<String, String> record = record("notifications", 0, "invalid json");
+
+        consumer.consumeNotification(record, acknowledgment);
+
+        verify(deadLetterProducer).deadLetter(eq(record), eq(false), any(Exception.class));
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(notificationService, messagingTemplate);
+    }
+
+    @Test
+    void shouldPersistResolveAndAckWholeBatchOnce() {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        NotificationRequest first = new NotificationRequest("Hi", known, false);
+        NotificationRequest second = new NotificationRequest("Hey", unknown, false);
+        User user = new User(known, "user@example.com", "User", User.Role.WORKER);
+        ConsumerRecord<String, String> broken = record("notifications", 1, "broken");
+        ConsumerRecord<String, String> secondRecord = record("notifications", 2, json(second));
+        when(userService.getUsersByIds(Set.of(known, unknown))).thenReturn(Map.of(known, user));
+
+        consumer.consumeNotifications(List.of(record("notifications", 0, json(first)), broken, secondRecord), acknowledgment);
+
+        verify(notificationService).saveNotifications(Map.of(source(0), first, source(2), second));
+        verify(userService, never()).getUserById(any());
+        verify(messagingTemplate).convertAndSendToUser("user@example.com", "/queue/notifications", first);
+        verify(deadLetterProducer).deadLetter(eq(broken), eq(false), any(Exception.class));
+        verify(deadLetterProducer).retry(eq(secondRecord), eq(true), any(IllegalStateException.class));
+        verify(acknowledgment, times(1)).acknowledge();
+        assertThat(meterRegistry.get("notifications.consumer.records").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFallBackToRowByRowInsertAndRetryOnlyTheFailingRow() {
         UUID userId = UUID.randomUUID();
-        String message = "{\"recipientId\":\"" + userId + "\",\"message\":\"Hi\",\"read\":false}";
+        NotificationRequest good = new NotificationRequest("Hi", userId, false);
+        NotificationRequest bad = new NotificationRequest("x".repeat(300), userId, false);
+        ConsumerRecord<String, String> badRecord = record("notifications", 1, json(bad));
+        User user = new User(userId, "user@example.com", "User", User.Role.WORKER);
+        doThrow(new IllegalStateException("value too long")).when(notificationService).saveNotifications(Map.of(source(0), good, source(1), bad));
+        doThrow(new IllegalStateException("value too long")).when(notificationService).saveNotifications(Map.of(source(1), bad));
+        when(userService.getUsersByIds(Set.of(userId))).thenReturn(Map.of(userId, user));
 
-        NotificationRequest request = new NotificationRequest("Hi", userId,  false);
+        consumer.consumeNotifications(List.of(record("notifications", 0, json(good)), badRecord), acknowledgment);
 
-        when(objectMapper.readValue(eq(message), eq(NotificationRequest.class))).thenReturn(request);
-        when(userService.getUserById(userId)).thenReturn(null);
+        verify(notificationService).saveNotifications(Map.of(source(0), good));
+        verify(deadLetterProducer).retry(eq(badRecord), eq(false), any(IllegalStateException.class));
+        verify(messagingTemplate).convertAndSendToUser("user@example.com", "/queue/notifications", good);
+        verify(acknowledgment).acknowledge();
+    }
 
-        consumer.consumeNotification(message, acknowledgment);
+    @Test
+    void shouldWaitOutRetryDelayWithoutProcessing() {
+        ConsumerRecord<String, String> record = record("notifications-retry-10s", 0,
+                json(new NotificationRequest("Hi", UUID.randomUUID(), false)));
+        header(record, DeadLetterProducer.DUE_AT_HEADER, String.valueOf(System.currentTimeMillis() + 5_000));
+
+        consumer.consumeRetry(record, acknowledgment);
+
+        ArgumentCaptor<Duration> wait = ArgumentCaptor.forClass(Duration.class);
+        verify(acknowledgment).nack(wait.capture());
+        assertThat(wait.getValue()).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(5));
+        verify(acknowledgment, never()).acknowledge();
+        verifyNoInteractions(notificationService, messagingTemplate);
+    }
 
-        verify(notificationService).saveNotification(request);
-        verify(deadLetterProducer).send("notifications.DLT", request);
+    @Test
+    void shouldDeliverDueRetryWithoutSavingAgainAndCountRecovery() {
+        UUID userId = UUID.randomUUID();
+        NotificationRequest request = new NotificationRequest("Hi", userId, false);
+        ConsumerRecord<String, String> record = record("notifications-retry-1s", 0, json(request));
+        header(record, DeadLetterProducer.DUE_AT_HEADER, String.valueOf(System.currentTimeMillis() - 1));
+        header(record, DeadLetterProducer.PERSISTED_HEADER, "true");
+        when(userService.getUsersByIds(Set.of(userId)))
+                .thenReturn(Map.of(userId, new User(userId, "user@example.com", "User", User.Role.WORKER)));
+
+        consumer.consumeRetry(record, acknowledgment);
+
+        verify(notificationService, never()).saveNotifications(any());
+        verify(messagingTemplate).convertAndSendToUser("user@example.com", "/queue/notifications", request);
         verify(acknowledgment).acknowledge();
-        verifyNoInteractions(messagingTemplate);
+        assertThat(meterRegistry.get("notifications.retry.recovered").tag("tier", "1s").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotAckAndKeepSourcesWhenRetrySendFailsAfterPersist() {
+        UUID userId = UUID.randomUUID();
+        NotificationRequest request = new NotificationRequest("Hi", userId, false);
+        ConsumerRecord<String, String> record = record("notifications", 0, json(request));
+        when(userService.getUsersByIds(Set.of(userId))).thenReturn(Map.of());
+        doThrow(new IllegalStateException("Could not forward notification to notifications-retry-1s"))
+                .when(deadLetterProducer).retry(eq(record), eq(true), any());
+
+        assertThatThrownBy(() -> consumer.consumeNotifications(List.of(record), acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> consumer.consumeNotifications(List.of(record), acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Both deliveries carry the same source, which is what lets the insert skip the row the second time.
+        verify(notificationService, times(2)).saveNotifications(Map.of(source(0), request));
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void shouldLogErrorIfMessageProcessingFails() throws Exception {
-        String invalidMessage = "invalid json";
+    void shouldKeepOriginalSourceThroughRetryTiers() {
+        NotificationRequest request = new NotificationRequest("Hi", UUID.randomUUID(), false);
+        ConsumerRecord<String, String> record = record("notifications-retry-10s", 4, json(request));
+        header(record, DeadLetterProducer.ORIGINAL_TOPIC_HEADER, "notifications");
+        header(record, DeadLetterProducer.ORIGINAL_PARTITION_HEADER, "0");
+        header(record, DeadLetterProducer.ORIGINAL_OFFSET_HEADER, "7");
 
-        when(objectMapper.readValue(eq(invalidMessage), eq(NotificationRequest.class)))
-                .thenThrow(new RuntimeException("Invalid JSON"));
+        consumer.consumeRetry(record, acknowledgment);
 
-        consumer.consumeNotification(invalidMessage, acknowledgment);
+        verify(notificationService).saveNotifications(Map.of(source(7), request));
+    }
 
-        verifyNoInteractions(notificationService);
-        verifyNoInteractions(messagingTemplate);
-        verifyNoInteractions(acknowledgment);
+    private NotificationSource source(long offset) {
+        return new NotificationSource("notifications", 0, offset);
+    }
+
+    private ConsumerRecord<String, String> record(String topic, long offset, String value) {
+        return new ConsumerRecord<>(topic, 0, offset, null, value);
+    }
+
+    private void header(ConsumerRecord<String, String> record, String name, String value) {
+        record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String json(NotificationRequest request) {
+        try {
+            return new ObjectMapper().writeValueAsString(request);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package org.example.notificationservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.example.notificationservice.dto.NotificationRequest;
+import org.example.notificationservice.dto.User;
+import org.example.notificationservice.kafka.DeadLetterProducer;
+import org.example.notificationservice.kafka.KeyOrderedDispatcher;
+import org.example.notificationservice.kafka.NotificationConsumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Runs the real batch listener against an embedded broker with a simulated per-record persistence cost,
+// once on a single consumer thread and once with one consumer per partition plus worker lanes.
+@Slf4j
+@EmbeddedKafka(partitions = NotificationConsumerThroughputTest.PARTITIONS,
+        topics = {"notifications-sequential", "notifications-parallel"})
+class NotificationConsumerThroughputTest {
+
+    static final int PARTITIONS = 4;
+    private static final int RECIPIENTS = 40;
+    private static final int PER_RECIPIENT = 50;
+    private static final long PERSIST_NANOS_PER_RECORD = TimeUnit.MICROSECONDS.toNanos(500);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void partitionAndLaneParallelismShouldRaiseThroughputAndKeepPerRecipientOrder(EmbeddedKafkaBroker broker) throws Exception {
+        List<UUID> recipients = IntStream.range(0, RECIPIENTS).mapToObj(i -> UUID.randomUUID()).toList();
+
+        double sequential = consume(broker, "notifications-sequential", 1, 1, recipients);
+        double parallel = consume(broker, "notifications-parallel", PARTITIONS, 4, recipients);
+
+        log.info("📊 Notification consumer throughput: sequential={} records/s, parallel={} records/s",
+                Math.round(sequential), Math.round(parallel));
+        assertThat(parallel).isGreaterThan(sequential * 2);
+    }
+
+    private void publish(EmbeddedKafkaBroker broker, String topic, List<UUID> recipients) throws Exception {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(props, new StringSerializer(), new StringSerializer())) {
+            for (int seq = 0; seq < PER_RECIPIENT; seq++) {
+                for (UUID recipient : recipients) {
+                    String json = objectMapper.writeValueAsString(new NotificationRequest(String.valueOf(seq), recipient, false));
+                    producer.send(new ProducerRecord<>(topic, recipient.toString(), json));
+                }
+            }
+            producer.flush();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private double consume(EmbeddedKafkaBroker broker, String topic, int concurrency, int lanes,
+                           List<UUID> recipients) throws Exception {
+        int total = RECIPIENTS * PER_RECIPIENT;
+        Map<UUID, List<Integer>> delivered = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(total);
+
+        NotificationService notificationService = mock(NotificationService.class);
+        doAnswer(invocation -> {
+            LockSupport.parkNanos(PERSIST_NANOS_PER_RECORD * invocation.getArgument(0, Map.class).size());
+            return null;
+        }).when(notificationService).saveNotifications(anyMap());
+        UserService userService = mock(UserService.class);
+        when(userService.getUsersByIds(anySet())).thenAnswer(invocation -> ((Set<UUID>) invocation.getArgument(0)).stream()
+                .collect(Collectors.toMap(id -> id, id -> new User(id, id + "@example.com", "User", User.Role.WORKER))));
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        doAnswer(invocation -> {
+            NotificationRequest request = invocation.getArgument(2);
+            delivered.computeIfAbsent(request.recipientId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(Integer.parseInt(request.message()));
+            done.countDown();
+            return null;
+        }).when(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(lanes);
+        NotificationConsumer consumer = new NotificationConsumer(notificationService, objectMapper, messagingTemplate,
+                userService, mock(DeadLetterProducer.class), new SimpleMeterRegistry(), dispatcher);
+
+        Map<String, Object> props = KafkaTestUtils.consumerProps(topic, "false", broker);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 200);
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setMessageListener((BatchAcknowledgingMessageListener<String, String>) consumer::consumeNotifications);
+        ConcurrentMessageListenerContainer<String, String> container = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer()), containerProperties);
+        container.setConcurrency(concurrency);
+        container.start();
+        try {
+            // Measure from a settled group so the rebalance is not part of the number.
+            ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+            long startedAt = System.nanoTime();
+            publish(broker, topic, recipients);
+            assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            List<Integer> expectedOrder = IntStream.range(0, PER_RECIPIENT).boxed().toList();
+            recipients.forEach(recipient -> assertThat(delivered.get(recipient)).containsExactlyElementsOf(expectedOrder));
+            return total / seconds;
+        } finally {
+            container.stop();
+            dispatcher.close();
+        }
+    }
+}
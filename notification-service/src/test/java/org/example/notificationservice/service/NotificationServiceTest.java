@@ -1,6 +1,7 @@
 package org.example.notificationservice.service;
 
 import org.example.notificationservice.dto.NotificationRequest;
+import org.example.notificationservice.dto.NotificationSource;
 import org.example.notificationservice.model.Notifications;
 import org.example.notificationservice.repository.NotificationRepo;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,8 +10,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,12 +18,14 @@ import static org.mockito.Mockito.*;
 public class NotificationServiceTest {
 
     private NotificationRepo notificationRepo;
+    private UnreadCounterService unreadCounterService;
     private NotificationService notificationService;
 
     @BeforeEach
     void setUp() {
         notificationRepo = mock(NotificationRepo.class);
-        notificationService = new NotificationService(notificationRepo);
+        unreadCounterService = mock(UnreadCounterService.class);
+        notificationService = new NotificationService(notificationRepo, unreadCounterService);
     }
 
     @Test
@@ -41,6 +43,55 @@ public class NotificationServiceTest {
         assertEquals("Test Message", saved.getMessage());
         assertFalse(saved.isRead());
         assertNotNull(saved.getTimestamp());
+        verify(unreadCounterService).increment(Map.of(userId, 1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSaveNotifications_shouldSaveWholeBatchInOneCall() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        notificationService.saveNotifications(requests(
+                new NotificationRequest("One", first, false),
+                new NotificationRequest("Two", second, false)));
+
+        ArgumentCaptor<List<Notifications>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepo).saveAll(captor.capture());
+        verify(notificationRepo, never()).save(any());
+        assertEquals(List.of(first, second), captor.getValue().stream().map(Notifications::getRecipientId).toList());
+        assertNotNull(captor.getValue().getFirst().getTimestamp());
+    }
+
+    @Test
+    void testSaveNotifications_shouldIncrementUnreadCountersOncePerRecipient() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        notificationService.saveNotifications(requests(
+                new NotificationRequest("One", first, false),
+                new NotificationRequest("Two", first, false),
+                new NotificationRequest("Three", second, true)));
+
+        verify(unreadCounterService).increment(Map.of(first, 2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSaveNotifications_shouldSkipRecordsStoredByEarlierDelivery() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(notificationRepo.findStoredOffsets("notifications", 0, Set.of(0L, 1L))).thenReturn(Set.of(0L));
+
+        notificationService.saveNotifications(requests(
+                new NotificationRequest("One", first, false),
+                new NotificationRequest("Two", second, false)));
+
+        ArgumentCaptor<List<Notifications>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepo).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(1L, captor.getValue().getFirst().getSourceOffset());
+        verify(unreadCounterService).increment(Map.of(second, 1L));
     }
 
     @Test
@@ -60,33 +111,20 @@ public class NotificationServiceTest {
     }
 
     @Test
-    void testReadNotifications_shouldMarkAllAsReadAndSave() {
+    void testReadNotifications_shouldDecrementByRowsActuallyMarked() {
         UUID userId = UUID.randomUUID();
-
-        Notifications n1 = Notifications.builder()
-                .id(1L)
-                .recipientId(userId)
-                .message("1")
-                .read(false)
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        Notifications n2 = Notifications.builder()
-                .id(2L)
-                .recipientId(userId)
-                .message("2")
-                .read(false)
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        when(notificationRepo.findAllByRecipientIdAndRead(eq(userId), eq(false), any(Sort.class)))
-                .thenReturn(List.of(n1, n2));
+        when(notificationRepo.markAllRead(userId)).thenReturn(2);
 
         notificationService.readNotifications(userId);
 
-        assertTrue(n1.isRead());
-        assertTrue(n2.isRead());
+        verify(notificationRepo).markAllRead(userId);
+        verify(unreadCounterService).decrement(userId, 2);
+        verify(notificationRepo, never()).saveAll(any());
+    }
 
-        verify(notificationRepo).saveAll(List.of(n1, n2));
+    private Map<NotificationSource, NotificationRequest> requests(NotificationRequest... requests) {
+        Map<NotificationSource, NotificationRequest> sourced = new LinkedHashMap<>();
+        for (int i = 0; i < requests.length; i++) sourced.put(new NotificationSource("notifications", 0, i), requests[i]);
+        return sourced;
     }
-}
\ No newline at end of file
+}
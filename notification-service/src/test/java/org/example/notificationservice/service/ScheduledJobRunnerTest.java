@@ -0,0 +1,100 @@
+package org.example.notificationservice.service;
+
+import org.example.notificationservice.dto.JobRunStatus;
+import org.example.notificationservice.model.ScheduledJobRun;
+import org.example.notificationservice.repository.ScheduledJobLockRepo;
+import org.example.notificationservice.repository.ScheduledJobRunRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ScheduledJobRunnerTest {
+
+    @Mock private ScheduledJobLockRepo lockRepo;
+    @Mock private ScheduledJobRunRepo runRepo;
+
+    @InjectMocks private ScheduledJobRunner runner;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        when(runRepo.save(any(ScheduledJobRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    void shouldSkipJobWhenLockIsHeldElsewhere() {
+        when(lockRepo.acquire(eq("job"), anyString(), any(), any())).thenReturn(0);
+        Runnable job = mock(Runnable.class);
+
+        boolean ran = runner.runLocked("job", Duration.ofMinutes(30), Duration.ofMinutes(1), job);
+
+        assertThat(ran).isFalse();
+        verifyNoInteractions(job, runRepo);
+        verify(lockRepo, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void shouldRecordRunAndHoldLockForMinimumLease() {
+        when(lockRepo.acquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+        Runnable job = mock(Runnable.class);
+
+        boolean ran = runner.runLocked("job", Duration.ofMinutes(30), Duration.ofMinutes(1), job);
+
+        assertThat(ran).isTrue();
+        verify(job).run();
+        ArgumentCaptor<ScheduledJobRun> run = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(runRepo, times(2)).save(run.capture());
+        assertThat(run.getValue().getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        ArgumentCaptor<LocalDateTime> releaseAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(lockRepo).release(eq("job"), anyString(), releaseAt.capture());
+        assertThat(releaseAt.getValue()).isAfter(run.getValue().getStartedAt().plusSeconds(59));
+    }
+
+    @Test
+    void shouldRecordFailedRunAndReleaseLock() {
+        when(lockRepo.acquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+
+        runner.runLocked("job", Duration.ofMinutes(30), Duration.ZERO, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        ArgumentCaptor<ScheduledJobRun> run = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(runRepo, times(2)).save(run.capture());
+        assertThat(run.getValue().getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(run.getValue().getError()).isEqualTo("boom");
+        verify(lockRepo).release(eq("job"), anyString(), any());
+    }
+
+    @Test
+    void shouldTruncateLongErrorAndReleaseLockWhenRecordingRunFails() {
+        when(lockRepo.acquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+        when(runRepo.save(any(ScheduledJobRun.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new IllegalStateException("database down"));
+
+        boolean ran = runner.runLocked("job", Duration.ofMinutes(30), Duration.ZERO, () -> {
+            throw new IllegalStateException("x".repeat(5000));
+        });
+
+        assertThat(ran).isTrue();
+        ArgumentCaptor<ScheduledJobRun> run = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(runRepo, times(2)).save(run.capture());
+        assertThat(run.getValue().getError()).hasSize(1024);
+        verify(lockRepo).release(eq("job"), anyString(), any());
+    }
+}
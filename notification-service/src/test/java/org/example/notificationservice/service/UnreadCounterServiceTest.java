@@ -0,0 +1,98 @@
+package org.example.notificationservice.service;
+
+import org.example.notificationservice.dto.UnreadCount;
+import org.example.notificationservice.dto.User;
+import org.example.notificationservice.model.UnreadCounter;
+import org.example.notificationservice.repository.NotificationRepo;
+import org.example.notificationservice.repository.UnreadCounterRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UnreadCounterServiceTest {
+
+    private UnreadCounterRepo unreadCounterRepo;
+    private NotificationRepo notificationRepo;
+    private UserService userService;
+    private SimpMessagingTemplate messagingTemplate;
+    private UnreadCounterService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        unreadCounterRepo = mock(UnreadCounterRepo.class);
+        notificationRepo = mock(NotificationRepo.class);
+        userService = mock(UserService.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        service = new UnreadCounterService(unreadCounterRepo, notificationRepo, userService, messagingTemplate,
+                mock(ScheduledJobRunner.class), transactionTemplate);
+    }
+
+    @Test
+    void shouldIncrementInRecipientOrderAndPushStoredValue() {
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(userService.getUsersByIds(Set.of(first, second))).thenReturn(Map.of(
+                first, new User(first, "first@example.com", "First", User.Role.WORKER)));
+        when(unreadCounterRepo.findAllById(Set.of(first, second))).thenReturn(List.of(
+                new UnreadCounter(first, 4, updatedAt), new UnreadCounter(second, 1, updatedAt)));
+
+        service.increment(new LinkedHashMap<>(Map.of(second, 1L, first, 3L)));
+
+        InOrder order = inOrder(unreadCounterRepo);
+        order.verify(unreadCounterRepo).increment(eq(first), eq(3L), any());
+        order.verify(unreadCounterRepo).increment(eq(second), eq(1L), any());
+        verify(messagingTemplate, timeout(1_000)).convertAndSendToUser("first@example.com",
+                UnreadCounterService.COUNTER_DESTINATION, new UnreadCount(4, updatedAt));
+        verify(messagingTemplate, after(200).times(1)).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    void shouldRecountWhenRecipientHasNoCounterYet() {
+        UUID userId = UUID.randomUUID();
+        when(unreadCounterRepo.findById(userId)).thenReturn(Optional.empty());
+        when(notificationRepo.countByRecipientIdAndRead(userId, false)).thenReturn(7L);
+
+        UnreadCount count = service.getUnreadCount(userId);
+
+        assertThat(count.unread()).isEqualTo(7);
+        InOrder order = inOrder(unreadCounterRepo, notificationRepo);
+        order.verify(unreadCounterRepo).lock(eq(userId), any());
+        order.verify(notificationRepo).countByRecipientIdAndRead(userId, false);
+        order.verify(unreadCounterRepo).set(eq(userId), eq(7L), any());
+    }
+
+    @Test
+    void shouldOnlyRecountDriftedRecipients() {
+        UUID drifted = UUID.randomUUID();
+        when(unreadCounterRepo.findDrifted()).thenReturn(List.of(drifted));
+        when(notificationRepo.countByRecipientIdAndRead(drifted, false)).thenReturn(2L);
+
+        assertThat(service.reconcileAll()).isEqualTo(1);
+
+        verify(unreadCounterRepo).set(eq(drifted), eq(2L), any());
+        verify(notificationRepo, times(1)).countByRecipientIdAndRead(any(), anyBoolean());
+    }
+
+    @Test
+    void shouldSkipCounterWritesWhenNothingChanged() {
+        service.increment(Map.of());
+        service.decrement(UUID.randomUUID(), 0);
+
+        verifyNoInteractions(unreadCounterRepo, messagingTemplate);
+    }
+}
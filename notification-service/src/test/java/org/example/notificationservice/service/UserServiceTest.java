@@ -0,0 +1,87 @@
+package org.example.notificationservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.notificationservice.dto.User;
+import org.example.notificationservice.model.UserProjection;
+import org.example.notificationservice.repository.UserProjectionRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    @Mock
+    private UserLoader userLoader;
+
+    @Mock
+    private UserProjectionRepo userProjectionRepo;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userService = new UserService(userLoader, userProjectionRepo, meterRegistry, Duration.ofMillis(100), 200, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.shutdown();
+    }
+
+    @Test
+    void shouldServeProjectedUserWithoutRemoteCall() {
+        UUID userId = UUID.randomUUID();
+        UserProjection projection = UserProjection.builder()
+                .id(userId).email("local@example.com").name("Local").role(User.Role.MANAGER).build();
+        when(userProjectionRepo.findById(userId)).thenReturn(Optional.of(projection));
+
+        assertThat(userService.getUserById(userId).email()).isEqualTo("local@example.com");
+        verifyNoInteractions(userLoader);
+    }
+
+    @Test
+    void shouldUseSingleLookupForLoneRequest() {
+        UUID userId = UUID.randomUUID();
+        User user = new User(userId, "solo@example.com", "Solo", User.Role.WORKER);
+        when(userLoader.loadUser(userId)).thenReturn(user);
+
+        assertThat(userService.getUserById(userId)).isEqualTo(user);
+        verify(userLoader, never()).loadUsers(any());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLookupsIntoOneBulkRequest() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Map<UUID, User> users = Map.of(
+                first, new User(first, "a@example.com", "A", User.Role.WORKER),
+                second, new User(second, "b@example.com", "B", User.Role.MANAGER));
+        when(userLoader.loadUsers(Set.of(first, second))).thenReturn(users);
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        List<Future<User>> results = callers.invokeAll(List.of(
+                () -> userService.getUserById(first),
+                () -> userService.getUserById(second),
+                () -> userService.getUserById(first)));
+        callers.shutdown();
+
+        assertThat(results.get(0).get().email()).isEqualTo("a@example.com");
+        assertThat(results.get(1).get().email()).isEqualTo("b@example.com");
+        assertThat(results.get(2).get().email()).isEqualTo("a@example.com");
+        verify(userLoader, times(1)).loadUsers(Set.of(first, second));
+        verify(userLoader, never()).loadUser(any());
+        assertThat(meterRegistry.summary("coalescer.batch.size", "loader", "userDirectory").count()).isEqualTo(1);
+    }
+}
@@ -43,6 +43,7 @@ const WorkerDashboard = () => {
     const [loading, setLoading] = useState(false);
     const [anchorEl, setAnchorEl] = useState(null);
     const [notifications, setNotifications] = useState([]);
+    const [unreadCount, setUnreadCount] = useState({ unread: 0, updatedAt: null });
     const [isAll, setIsAll] = useState(false);
 
     const open = Boolean(anchorEl);
@@ -56,6 +57,15 @@ const WorkerDashboard = () => {
         }
     };
 
+    const fetchUnreadCount = async () => {
+        try {
+            const res = await api.get(`/notifications/unread/count`);
+            setUnreadCount(res.data);
+        } catch (err) {
+            enqueueSnackbar(err.response?.data?.message || err.message, { variant: "error" });
+        }
+    };
+
     const fetchAllNotifications = async () => {
         try {
             const res = await api.get(`/notifications`);
@@ -69,6 +79,7 @@ const WorkerDashboard = () => {
         try {
             await api.put(`/notifications/mark-read`);
             setNotifications([]);
+            setUnreadCount(prev => ({ ...prev, unread: 0 }));
         } catch (err) {
             enqueueSnackbar(err.response?.data?.message || err.message, { variant: "error" });
         }
@@ -107,6 +118,10 @@ const WorkerDashboard = () => {
         }
     };
 
+    useEffect(() => {
+        fetchUnreadCount().then();
+    }, []);
+
     useEffect(() => {
         const socket = new WebSocket(`${WEBSOCKET_URL}?token=${token}`);
         const client = new Client({
@@ -120,6 +135,11 @@ const WorkerDashboard = () => {
                         return exists ? prev : [notification, ...prev];
                     });
                 });
+                client.subscribe('/user/queue/unread-count', message => {
+                    const count = JSON.parse(message.body);
+                    // Pushes can arrive out of order; keep whichever value the server wrote last.
+                    setUnreadCount(prev => !prev.updatedAt || count.updatedAt >= prev.updatedAt ? count : prev);
+                });
             },
             onStompError: (frame) => {
                 console.error("❌ STOMP error", frame.headers['message'], frame.body);
@@ -153,7 +173,7 @@ const WorkerDashboard = () => {
                         ref={buttonRef}
                         disabled={loading}
                     >
-                        <Badge badgeContent={isAll ? 0 : notifications.length} color="error">
+                        <Badge badgeContent={isAll ? 0 : unreadCount.unread} color="error">
                             <NotificationsIcon />
                         </Badge>
                     </IconButton>
@@ -0,0 +1,7 @@
+package org.example.taskservice.cache;
+
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key
+) {}
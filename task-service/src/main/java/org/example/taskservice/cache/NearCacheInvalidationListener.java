@@ -0,0 +1,27 @@
+package org.example.taskservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+@Slf4j
+@RequiredArgsConstructor
+public class NearCacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final NearCacheInvalidationPublisher publisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+            if (publisher.getInstanceId().equals(invalidation.origin())) return;
+            cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+        } catch (Exception e) {
+            log.warn("⚠️ Ignoring malformed near-cache invalidation message - {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.taskservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCacheInvalidationPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NearCacheProperties properties;
+
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public void publish(String cacheName, String key) {
+        try {
+            String message = objectMapper.writeValueAsString(new CacheInvalidationMessage(instanceId, cacheName, key));
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to publish near-cache invalidation for {}::{} - {}", cacheName, key, e.getMessage());
+        }
+    }
+}
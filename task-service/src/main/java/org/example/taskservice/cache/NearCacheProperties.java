@@ -0,0 +1,22 @@
+package org.example.taskservice.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.near")
+public class NearCacheProperties {
+    private boolean enabled = true;
+    // taskPageGenerations stays Redis-only: it is the ETag, so every replica must read the same token.
+    private Set<String> caches = Set.of("managerTasks", "workerTasks", "taskDetail", "taskPages");
+    private long maximumSize = 1000;
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+    private String invalidationChannel = "task-pulse::task-service::cache-invalidation";
+}
@@ -0,0 +1,50 @@
+package org.example.taskservice.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.taskservice.dto.TaskPage;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class TaskPageCache {
+
+    public static final String PAGES = "taskPages";
+    public static final String GENERATIONS = "taskPageGenerations";
+
+    private final CacheManager cacheManager;
+
+    // Pages are stored under the scope's current generation, so evicting a scope drops one key instead of every page.
+    public TaskPage get(String scope, UUID scopeId, String pageKey, Supplier<TaskPage> loader) {
+        return cache(PAGES).get(scopeKey(scope, scopeId) + "::" + generation(scope, scopeId) + "::" + pageKey, loader::get);
+    }
+
+    // Replaced after every committed write to the scope, which also makes it the scope's ETag. Created with
+    // putIfAbsent (SET NX in Redis) so replicas that miss together still agree on one token.
+    public String generation(String scope, UUID scopeId) {
+        Cache generations = cache(GENERATIONS);
+        String key = scopeKey(scope, scopeId);
+        String current = generations.get(key, String.class);
+        if (current != null) return current;
+        String created = UUID.randomUUID().toString();
+        Cache.ValueWrapper existing = generations.putIfAbsent(key, created);
+        return existing != null && existing.get() != null ? (String) existing.get() : created;
+    }
+
+    public void evictScope(String scope, UUID scopeId) {
+        cache(GENERATIONS).evict(scopeKey(scope, scopeId));
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache not configured: " + name);
+    }
+
+    private static String scopeKey(String scope, UUID scopeId) {
+        return scopeId == null ? scope : scope + ":" + scopeId;
+    }
+}
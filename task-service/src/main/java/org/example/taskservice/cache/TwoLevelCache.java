@@ -0,0 +1,181 @@
+package org.example.taskservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private static final int EPOCH_STRIPES = 64;
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final NearCacheInvalidationPublisher publisher;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter evictRequests;
+    // Bumped before every local eviction; an L2 read only fills L1 if no eviction for its key landed meanwhile.
+    private final AtomicLongArray evictionEpochs = new AtomicLongArray(EPOCH_STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+
+    public TwoLevelCache(String name, Cache<String, ValueWrapper> local, org.springframework.cache.Cache remote,
+                         NearCacheInvalidationPublisher publisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.remoteHits = remoteGets("hit", meterRegistry);
+        this.remoteMisses = remoteGets("miss", meterRegistry);
+        // Counts evict/clear calls, not removed entries: the Redis cache cannot tell whether a key was present.
+        this.evictRequests = Counter.builder("cache.evict.requests")
+                .tags("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) return wrapper;
+        long epoch = epoch(localKey);
+        wrapper = remote.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        putLocal(localKey, wrapper, epoch);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) return (T) wrapper.get();
+        long epoch = epoch(localKey);
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = remote.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        (loaded.get() ? remoteMisses : remoteHits).increment();
+        putLocal(localKey, new SimpleValueWrapper(value), epoch);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(toLocalKey(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(toLocalKey(key), existing != null ? existing : new SimpleValueWrapper(value));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictEverywhere(toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        evictEverywhere(toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearEverywhere();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearEverywhere();
+        return invalidated;
+    }
+
+    public void evictLocal(String key) {
+        evictionEpochs.incrementAndGet(stripe(key));
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        clearEpoch.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private void evictEverywhere(String localKey) {
+        evictRequests.increment();
+        evictLocal(localKey);
+        publisher.publish(name, localKey);
+    }
+
+    private void clearEverywhere() {
+        evictRequests.increment();
+        clearLocal();
+        publisher.publish(name, null);
+    }
+
+    // The second check catches an eviction that ran between the first check and the put.
+    private void putLocal(String localKey, ValueWrapper wrapper, long epoch) {
+        if (epoch(localKey) != epoch) return;
+        local.put(localKey, wrapper);
+        if (epoch(localKey) != epoch) local.invalidate(localKey);
+    }
+
+    private long epoch(String localKey) {
+        return clearEpoch.get() + evictionEpochs.get(stripe(localKey));
+    }
+
+    private static int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), EPOCH_STRIPES);
+    }
+
+    private Counter remoteGets(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("cache.gets")
+                .tags("cache", name, "tier", "l2", "result", result)
+                .register(meterRegistry);
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
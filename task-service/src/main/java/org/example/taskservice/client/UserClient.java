@@ -2,12 +2,15 @@ package org.example.taskservice.client;
 
 import org.example.taskservice.configuration.FeignClientConfig;
 import org.example.taskservice.dto.User;
+import org.example.taskservice.dto.UserEvent;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -20,4 +23,8 @@ public interface UserClient {
 
     @PostMapping("/api/internal/user/users")
     Map<UUID, User> getUsersByIds(@RequestBody Set<UUID> ids);
+
+    @GetMapping("/api/internal/user/snapshot")
+    List<UserEvent> getUserSnapshot(@RequestParam(value = "after", required = false) UUID after,
+                                    @RequestParam("size") int size);
 }
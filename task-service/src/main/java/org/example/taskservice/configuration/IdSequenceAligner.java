@@ -0,0 +1,42 @@
+package org.example.taskservice.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Tables that moved from IDENTITY to sequence ids already hold rows; push each sequence past the highest id once.
+@Slf4j
+@Component
+public class IdSequenceAligner implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory dependency makes sure the schema update has created the sequences first.
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        align("task_seq", "task", 50);
+        align("outbox_event_seq", "outbox_event", 1);
+    }
+
+    private void align(String sequence, String table, int allocationSize) {
+        try {
+            List<Long> moved = jdbcTemplate.queryForList("""
+                    SELECT setval('%1$s', m.max_id + %3$d)
+                    FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM %2$s) m, %1$s s
+                    WHERE s.last_value < m.max_id + %3$d
+                    """.formatted(sequence, table, allocationSize), Long.class);
+            if (!moved.isEmpty()) log.info("🔢 Advanced {} to {} past existing {} ids", sequence, moved.getFirst(), table);
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Could not align {} with {} - {}", sequence, table, e.getMessage());
+        }
+    }
+}
@@ -1,26 +1,78 @@
 package org.example.taskservice.configuration;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.taskservice.cache.CompactCacheCodec;
+import org.example.taskservice.cache.NearCacheInvalidationListener;
+import org.example.taskservice.cache.NearCacheInvalidationPublisher;
+import org.example.taskservice.cache.NearCacheProperties;
+import org.example.taskservice.cache.TaskPageCache;
+import org.example.taskservice.cache.TwoLevelCacheManager;
+import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskPage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             NearCacheProperties nearCacheProperties,
+                                             NearCacheInvalidationPublisher invalidationPublisher,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.codec.type:smile}") String codec,
+                                             @Value("${cache.codec.compression-threshold:1024}") int compressionThreshold) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .prefixCacheNameWith("task-pulse::")
                 .entryTtl(Duration.ofMinutes(10));
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config);
+        if ("smile".equals(codec)) {
+            CompactCacheCodec cacheCodec = new CompactCacheCodec(compressionThreshold);
+            JavaType taskList = cacheCodec.typeFactory().constructCollectionType(List.class, TaskDetails.class);
+            Map.of(
+                    "allTasks", taskList,
+                    "managerTasks", taskList,
+                    "workerTasks", taskList,
+                    "extensionRequests", taskList,
+                    "submittedTasks", taskList,
+                    "taskDetail", cacheCodec.typeFactory().constructType(TaskDetails.class),
+                    TaskPageCache.PAGES, cacheCodec.typeFactory().constructType(TaskPage.class),
+                    TaskPageCache.GENERATIONS, cacheCodec.typeFactory().constructType(String.class)
+            ).forEach((name, type) -> builder.withCacheConfiguration(name,
+                    config.serializeValuesWith(SerializationPair.fromSerializer(cacheCodec.serializer(type)))));
+        }
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, invalidationPublisher, meterRegistry);
     }
-}
 
+    @Bean
+    public RedisMessageListenerContainer nearCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    TwoLevelCacheManager cacheManager,
+                                                                    NearCacheInvalidationPublisher invalidationPublisher,
+                                                                    NearCacheProperties nearCacheProperties,
+                                                                    ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new NearCacheInvalidationListener(cacheManager, invalidationPublisher, objectMapper),
+                new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+}
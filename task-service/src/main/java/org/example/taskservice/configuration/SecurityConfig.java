@@ -25,6 +25,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/tasks/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/tasks/manager/**").hasRole("MANAGER")
                         .requestMatchers("/api/tasks/worker/**").hasRole("WORKER")
+                        .requestMatchers("/api/tasks/search").hasAnyRole("ADMIN", "MANAGER", "WORKER")
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .anyRequest().authenticated()
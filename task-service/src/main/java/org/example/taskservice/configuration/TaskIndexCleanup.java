@@ -0,0 +1,45 @@
+package org.example.taskservice.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Listings moved to task_view, so these indexes only slow down writes. Hibernate's schema update never drops an
+// index; this removes them from databases that still have them and is a no-op everywhere else.
+@Slf4j
+@Component
+public class TaskIndexCleanup implements InitializingBean {
+
+    static final List<String> UNUSED_INDEXES = List.of(
+            "idx_task_manager_status_due",
+            "idx_task_manager_due_id",
+            "idx_task_assignee_due_id",
+            "idx_task_extension_status_task"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory dependency makes sure the schema update has run first.
+    public TaskIndexCleanup(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            List<String> present = jdbcTemplate.queryForList(
+                    "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema() AND indexname = ANY (?)",
+                    String.class, (Object) UNUSED_INDEXES.toArray(String[]::new));
+            if (present.isEmpty()) return;
+            present.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+            log.info("🧹 Dropped unused task indexes {}", present);
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Could not drop unused task indexes - {}", e.getMessage());
+        }
+    }
+}
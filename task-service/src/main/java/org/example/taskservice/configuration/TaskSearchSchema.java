@@ -0,0 +1,42 @@
+package org.example.taskservice.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Hibernate's schema update can neither declare a generated tsvector column nor a GIN index, so both are added here.
+@Slf4j
+@Component
+public class TaskSearchSchema implements InitializingBean {
+
+    public static final String SEARCH_VECTOR_DDL = """
+            ALTER TABLE task_view ADD COLUMN IF NOT EXISTS search_vector tsvector
+            GENERATED ALWAYS AS (
+                setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+                setweight(to_tsvector('english', coalesce(description, '')), 'B')
+            ) STORED
+            """;
+    public static final String SEARCH_INDEX_DDL =
+            "CREATE INDEX IF NOT EXISTS idx_task_view_search ON task_view USING GIN (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory dependency makes sure the schema update has created task_view first.
+    public TaskSearchSchema(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            jdbcTemplate.execute(SEARCH_VECTOR_DDL);
+            jdbcTemplate.execute(SEARCH_INDEX_DDL);
+            log.info("🔎 task_view search vector and GIN index are in place");
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Could not prepare task_view full-text search - {}", e.getMessage());
+        }
+    }
+}
@@ -2,9 +2,18 @@ package org.example.taskservice.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskExportFormat;
+import org.example.taskservice.dto.TaskPage;
+import org.example.taskservice.dto.TaskPageRequest;
+import org.example.taskservice.model.ScheduledJobRun;
+import org.example.taskservice.service.ScheduledJobRunner;
+import org.example.taskservice.service.TaskExporter;
 import org.example.taskservice.service.TaskService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,9 +23,31 @@ import java.util.List;
 public class AdminController {
 
     private final TaskService taskService;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TaskExporter taskExporter;
 
     @GetMapping("/tasks")
     public ResponseEntity<List<TaskDetails>> getAllTasks() {
         return ResponseEntity.ok(taskService.getAllTasks());
     }
+
+    @GetMapping("/tasks/page")
+    public ResponseEntity<TaskPage> getAllTasksPage(TaskPageRequest request) {
+        return ResponseEntity.ok(taskService.getAllTasksPage(request));
+    }
+
+    @GetMapping("/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.extension()).build().toString())
+                .body(out -> taskExporter.export(exportFormat, out));
+    }
+
+    @GetMapping("/jobs/runs")
+    public ResponseEntity<List<ScheduledJobRun>> getJobRuns(@RequestParam(required = false) String job) {
+        return ResponseEntity.ok(scheduledJobRunner.getRecentRuns(job));
+    }
 }
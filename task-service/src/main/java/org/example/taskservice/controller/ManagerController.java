@@ -2,14 +2,25 @@ package org.example.taskservice.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.taskservice.dto.BulkTaskIdsRequest;
+import org.example.taskservice.dto.BulkTaskRequest;
+import org.example.taskservice.dto.BulkTaskUpdateRequest;
 import org.example.taskservice.dto.Response;
+import org.example.taskservice.dto.TaskChanges;
 import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskPage;
+import org.example.taskservice.dto.TaskPageRequest;
 import org.example.taskservice.dto.TaskRequest;
+import org.example.taskservice.dto.TaskStatsSummary;
 import org.example.taskservice.service.TaskService;
+import org.example.taskservice.service.TaskSyncService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,10 +31,30 @@ import java.util.UUID;
 public class ManagerController {
 
     private final TaskService taskService;
+    private final TaskSyncService taskSyncService;
 
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskDetails>> getTasksByManager(@AuthenticationPrincipal Jwt jwt) {
-        return ResponseEntity.ok(taskService.getTasksByManager(UUID.fromString(jwt.getClaimAsString("id"))));
+    public ResponseEntity<List<TaskDetails>> getTasksByManager(@AuthenticationPrincipal Jwt jwt, WebRequest webRequest) {
+        UUID managerId = UUID.fromString(jwt.getClaimAsString("id"));
+        String version = taskService.getTasksVersion("manager", managerId);
+        if (webRequest.checkNotModified(version))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version).cacheControl(CacheControl.noCache()).build();
+        return ResponseEntity.ok().eTag(version).cacheControl(CacheControl.noCache()).body(taskService.getTasksByManager(managerId));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChanges> getChanges(@AuthenticationPrincipal Jwt jwt, @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(taskSyncService.getManagerChanges(UUID.fromString(jwt.getClaimAsString("id")), since));
+    }
+
+    @GetMapping("/tasks/page")
+    public ResponseEntity<TaskPage> getTasksByManagerPage(@AuthenticationPrincipal Jwt jwt, TaskPageRequest request) {
+        return ResponseEntity.ok(taskService.getTasksByManagerPage(UUID.fromString(jwt.getClaimAsString("id")), request));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsSummary> getStats(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(taskService.getStats(UUID.fromString(jwt.getClaimAsString("id"))));
     }
 
     @GetMapping("/{taskId}")
@@ -37,6 +68,18 @@ public class ManagerController {
         return ResponseEntity.status(response.status()).body(response);
     }
 
+    @PostMapping("/tasks/bulk")
+    public ResponseEntity<Response> createTasks(@AuthenticationPrincipal Jwt jwt, @Valid @RequestBody BulkTaskRequest request) {
+        Response response = taskService.createTasks(UUID.fromString(jwt.getClaimAsString("id")), request.tasks());
+        return ResponseEntity.status(response.status()).body(response);
+    }
+
+    @PutMapping("/tasks/bulk")
+    public ResponseEntity<Response> updateTasks(@AuthenticationPrincipal Jwt jwt, @Valid @RequestBody BulkTaskUpdateRequest request) {
+        Response response = taskService.updateTasks(UUID.fromString(jwt.getClaimAsString("id")), request.tasks());
+        return ResponseEntity.status(response.status()).body(response);
+    }
+
     @PutMapping("/{taskId}")
     public ResponseEntity<Response> updateTask(@AuthenticationPrincipal Jwt jwt, @PathVariable Long taskId, @Valid @RequestBody TaskRequest request) {
         Response response = taskService.updateTask(UUID.fromString(jwt.getClaimAsString("id")), taskId, request);
@@ -77,6 +120,12 @@ public class ManagerController {
         return ResponseEntity.status(response.status()).body(response);
     }
 
+    @PutMapping("/task/approve/bulk")
+    public ResponseEntity<Response> approveSubmittedTasks(@AuthenticationPrincipal Jwt jwt, @Valid @RequestBody BulkTaskIdsRequest request) {
+        Response response = taskService.approveSubmittedTasks(UUID.fromString(jwt.getClaimAsString("id")), request.taskIds());
+        return ResponseEntity.status(response.status()).body(response);
+    }
+
     @PutMapping("/task/reject/{taskId}")
     public ResponseEntity<Response> rejectSubmittedTask(@AuthenticationPrincipal Jwt jwt, @PathVariable Long taskId, @RequestBody String reason) {
         Response response = taskService.rejectSubmittedTask(UUID.fromString(jwt.getClaimAsString("id")), taskId, reason);
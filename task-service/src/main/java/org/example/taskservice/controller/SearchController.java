@@ -0,0 +1,37 @@
+package org.example.taskservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.taskservice.dto.Role;
+import org.example.taskservice.dto.TaskPage;
+import org.example.taskservice.dto.TaskSearchRequest;
+import org.example.taskservice.service.TaskService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tasks")
+public class SearchController {
+
+    private final TaskService taskService;
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskPage> search(@AuthenticationPrincipal Jwt jwt, TaskSearchRequest request) {
+        return ResponseEntity.ok(taskService.searchTasks(UUID.fromString(jwt.getClaimAsString("id")), roleOf(jwt), request));
+    }
+
+    // SecurityConfig only lets the three known roles through; the broadest one decides the search scope.
+    private Role roleOf(Jwt jwt) {
+        List<String> authorities = jwt.getClaimAsStringList("authorities");
+        if (authorities.contains(Role.ADMIN.name())) return Role.ADMIN;
+        if (authorities.contains(Role.MANAGER.name())) return Role.MANAGER;
+        return Role.WORKER;
+    }
+}
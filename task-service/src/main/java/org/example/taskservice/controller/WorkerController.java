@@ -5,12 +5,19 @@ import lombok.RequiredArgsConstructor;
 import org.example.taskservice.dto.CompletionRequest;
 import org.example.taskservice.dto.ExtensionRequest;
 import org.example.taskservice.dto.Response;
+import org.example.taskservice.dto.TaskChanges;
 import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskPage;
+import org.example.taskservice.dto.TaskPageRequest;
 import org.example.taskservice.service.TaskService;
+import org.example.taskservice.service.TaskSyncService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,10 +28,25 @@ import java.util.UUID;
 public class WorkerController {
 
     private final TaskService taskService;
+    private final TaskSyncService taskSyncService;
 
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskDetails>> getTasks(@AuthenticationPrincipal Jwt jwt) {
-        return ResponseEntity.ok(taskService.getTasksByWorker(UUID.fromString(jwt.getClaimAsString("id"))));
+    public ResponseEntity<List<TaskDetails>> getTasks(@AuthenticationPrincipal Jwt jwt, WebRequest webRequest) {
+        UUID workerId = UUID.fromString(jwt.getClaimAsString("id"));
+        String version = taskService.getTasksVersion("worker", workerId);
+        if (webRequest.checkNotModified(version))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version).cacheControl(CacheControl.noCache()).build();
+        return ResponseEntity.ok().eTag(version).cacheControl(CacheControl.noCache()).body(taskService.getTasksByWorker(workerId));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChanges> getChanges(@AuthenticationPrincipal Jwt jwt, @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(taskSyncService.getWorkerChanges(UUID.fromString(jwt.getClaimAsString("id")), since));
+    }
+
+    @GetMapping("/tasks/page")
+    public ResponseEntity<TaskPage> getTasksPage(@AuthenticationPrincipal Jwt jwt, TaskPageRequest request) {
+        return ResponseEntity.ok(taskService.getTasksByWorkerPage(UUID.fromString(jwt.getClaimAsString("id")), request));
     }
 
     @GetMapping("/task/{taskId}")
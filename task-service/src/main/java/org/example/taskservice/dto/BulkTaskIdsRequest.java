@@ -0,0 +1,13 @@
+package org.example.taskservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+public record BulkTaskIdsRequest(
+        @NotEmpty(message = "Task IDs must not be empty")
+        @Size(max = BulkTaskRequest.MAX_TASKS, message = "At most 500 tasks per request")
+        Set<@NotNull Long> taskIds
+) {}
@@ -0,0 +1,15 @@
+package org.example.taskservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkTaskRequest(
+        @NotEmpty(message = "Tasks must not be empty")
+        @Size(max = BulkTaskRequest.MAX_TASKS, message = "At most 500 tasks per request")
+        List<@Valid TaskRequest> tasks
+) {
+    public static final int MAX_TASKS = 500;
+}
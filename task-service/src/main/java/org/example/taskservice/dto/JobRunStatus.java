@@ -0,0 +1,5 @@
+package org.example.taskservice.dto;
+
+public enum JobRunStatus {
+    RUNNING, SUCCEEDED, FAILED
+}
@@ -0,0 +1,11 @@
+package org.example.taskservice.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ReminderCandidate(
+        Long id,
+        String title,
+        UUID assigneeId,
+        LocalDate dueDate
+) {}
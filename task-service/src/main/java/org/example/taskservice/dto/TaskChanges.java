@@ -0,0 +1,12 @@
+package org.example.taskservice.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+// Apply removed before upserted: a task present in both left the scope and came back within this batch.
+public record TaskChanges(
+        List<TaskDetails> upserted,
+        List<Long> removed,
+        String watermark,
+        boolean hasMore
+) implements Serializable {}
@@ -0,0 +1,31 @@
+package org.example.taskservice.dto;
+
+import org.example.taskservice.model.TaskView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+public record TaskCursor(
+        LocalDate dueDate,
+        Long id
+) {
+    public static TaskCursor of(TaskView task) {
+        return new TaskCursor(task.getDueDate(), task.getId());
+    }
+
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            return new TaskCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((dueDate + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
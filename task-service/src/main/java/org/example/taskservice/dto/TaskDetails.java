@@ -1,6 +1,7 @@
 package org.example.taskservice.dto;
 
 import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskView;
 
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -44,4 +45,28 @@ public record TaskDetails(
                         .orElse(null)
         );
     }
+
+    public TaskDetails(TaskView view) {
+        this(
+                view.getId(),
+                view.getTitle(),
+                view.getDescription(),
+                view.toAssignee(),
+                view.toManager(),
+                view.getPriority(),
+                view.getDueDate(),
+                view.getStatus(),
+                view.getRejectionNote(),
+                view.getSubmissionUrl(),
+                view.getCompletionNote(),
+                Optional.ofNullable(view.getExtensionStatus())
+                        .map(status -> Map.of(
+                                "reason", Optional.ofNullable(view.getExtensionReason()).orElse(""),
+                                "rejectReason", Optional.ofNullable(view.getExtensionRejectReason()).orElse(""),
+                                "status", status.name(),
+                                "requestedDate", Optional.ofNullable(view.getExtensionRequestedDueDate()).map(Object::toString).orElse("")
+                        ))
+                        .orElse(null)
+        );
+    }
 }
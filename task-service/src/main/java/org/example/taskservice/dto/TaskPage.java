@@ -0,0 +1,10 @@
+package org.example.taskservice.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record TaskPage(
+        List<TaskDetails> tasks,
+        String nextCursor,
+        boolean hasMore
+) implements Serializable {}
@@ -0,0 +1,22 @@
+package org.example.taskservice.dto;
+
+public record TaskPageRequest(
+        TaskStatus status,
+        Priority priority,
+        String cursor,
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public int pageSize() {
+        if (size == null) return DEFAULT_SIZE;
+        if (size < 1 || size > MAX_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        return size;
+    }
+
+    public String cacheKey() {
+        return status + ":" + priority + ":" + cursor + ":" + pageSize();
+    }
+}
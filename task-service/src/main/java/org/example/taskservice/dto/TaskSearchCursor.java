@@ -0,0 +1,24 @@
+package org.example.taskservice.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record TaskSearchCursor(
+        float rank,
+        Long id
+) {
+    public static TaskSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            return new TaskSearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rank + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.taskservice.dto;
+
+public record TaskSearchRequest(
+        String q,
+        String cursor,
+        Integer size
+) {
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    public String query() {
+        if (q == null || q.isBlank())
+            throw new IllegalArgumentException("Search query must not be blank");
+        if (q.length() > MAX_QUERY_LENGTH)
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        return q.strip();
+    }
+
+    public int pageSize() {
+        if (size == null) return TaskPageRequest.DEFAULT_SIZE;
+        if (size < 1 || size > TaskPageRequest.MAX_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + TaskPageRequest.MAX_SIZE);
+        return size;
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.taskservice.dto;
+
+import java.util.UUID;
+
+public record TaskStatsCount(
+        UUID managerId,
+        TaskStatus status,
+        Priority priority,
+        long taskCount,
+        long overdueCount
+) {}
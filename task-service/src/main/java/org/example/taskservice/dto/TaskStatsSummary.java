@@ -0,0 +1,22 @@
+package org.example.taskservice.dto;
+
+import java.util.Map;
+
+public record TaskStatsSummary(
+        Counts total,
+        Map<Priority, Counts> byPriority
+) {
+    public record Counts(
+            long open,
+            long submitted,
+            long overdue,
+            long completed
+    ) {
+        public static final Counts EMPTY = new Counts(0, 0, 0, 0);
+
+        public Counts plus(Counts other) {
+            return new Counts(open + other.open, submitted + other.submitted,
+                    overdue + other.overdue, completed + other.completed);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.taskservice.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Position in the change stream ordered by (changedAt, removed, taskId); removals sort after upserts at the same instant.
+public record TaskSyncWatermark(
+        LocalDateTime changedAt,
+        boolean removed,
+        long taskId
+) {
+    public static final TaskSyncWatermark ORIGIN = new TaskSyncWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), false, 0);
+
+    public static TaskSyncWatermark endOf(LocalDateTime changedAt) {
+        return new TaskSyncWatermark(changedAt, true, Long.MAX_VALUE);
+    }
+
+    public static TaskSyncWatermark decode(String token) {
+        if (token == null || token.isBlank()) return ORIGIN;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            return new TaskSyncWatermark(LocalDateTime.parse(parts[0]), "1".equals(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid sync watermark: " + token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((changedAt + "|" + (removed ? 1 : 0) + "|" + taskId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.taskservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskUpdate(
+        @NotNull(message = "Task ID must not be null")
+        Long taskId,
+
+        @NotNull(message = "Task changes must not be null")
+        @Valid
+        TaskRequest task
+) {}
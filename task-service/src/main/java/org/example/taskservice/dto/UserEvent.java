@@ -0,0 +1,13 @@
+package org.example.taskservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserEvent(
+        UUID id,
+        String email,
+        String name,
+        Role role,
+        String type,
+        LocalDateTime updatedAt
+) {}
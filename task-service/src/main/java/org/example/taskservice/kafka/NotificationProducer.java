@@ -1,31 +1,66 @@
 package org.example.taskservice.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.taskservice.dto.Notifications;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationProducer {
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     public void sendNotification(Notifications notification) {
-        Thread.startVirtualThread(() -> sendSync(notification));
+        sendBatch(List.of(notification));
     }
 
-    private void sendSync(Notifications notification) {
-        try {
-            String message = objectMapper.writeValueAsString(notification);
-            kafkaTemplate.send("notifications", notification.recipientId().toString(), message);
-            log.info("📤 Published notification to Kafka for user: {}", notification.recipientId());
-        } catch (Exception e) {
-            log.error("❌ Failed to publish Kafka message", e);
-        }
+    public List<CompletableFuture<SendResult<String, String>>> sendBatch(List<Notifications> notifications) {
+        DistributionSummary.builder("kafka.producer.send.batch.records")
+                .tag("topic", "notifications")
+                .register(meterRegistry)
+                .record(notifications.size());
+        return notifications.stream()
+                .map(notification -> {
+                    try {
+                        String message = objectMapper.writeValueAsString(notification);
+                        return send("notifications", notification.recipientId().toString(), message);
+                    } catch (Exception e) {
+                        log.error("❌ Failed to serialize Kafka message for user: {}", notification.recipientId(), e);
+                        return CompletableFuture.<SendResult<String, String>>failedFuture(e);
+                    }
+                })
+                .toList();
     }
-}
 
+    public CompletableFuture<SendResult<String, String>> send(String topic, String key, String payload) {
+        long startedAt = System.nanoTime();
+        return kafkaTemplate.send(topic, key, payload)
+                .whenComplete((result, ex) -> {
+                    Timer.builder("kafka.producer.send.latency")
+                            .tags("topic", topic, "result", ex == null ? "success" : "failure")
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    if (ex != null) {
+                        Counter.builder("kafka.producer.send.failures").tag("topic", topic).register(meterRegistry).increment();
+                        log.error("❌ Failed to publish Kafka message for key: {}", key, ex);
+                    } else if (result != null) {
+                        log.debug("📤 Published to {}-{}@{} for key: {}", topic,
+                                result.getRecordMetadata().partition(), result.getRecordMetadata().offset(), key);
+                    }
+                });
+    }
+}
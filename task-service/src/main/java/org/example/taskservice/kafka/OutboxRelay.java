@@ -0,0 +1,137 @@
+package org.example.taskservice.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.model.OutboxEvent;
+import org.example.taskservice.repository.OutboxEventRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x7461736b6f7574L;
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final NotificationProducer notificationProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.send-timeout:30s}")
+    private Duration sendTimeout;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.backoff-initial:1s}")
+    private Duration backoffInitial;
+
+    @Value("${outbox.relay.backoff-max:5m}")
+    private Duration backoffMax;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> drainBatch());
+        } while (published != null && published == batchSize);
+        recordBacklog();
+    }
+
+    // The advisory lock keeps a single relay per cluster, which is what preserves per-key order across replicas.
+    int drainBatch() {
+        if (!outboxEventRepo.tryAdvisoryLock(RELAY_LOCK_KEY)) return 0;
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> due = outboxEventRepo.findDue(now, Limit.of(batchSize));
+        if (due.isEmpty()) return 0;
+
+        List<CompletableFuture<SendResult<String, String>>> futures = due.stream()
+                .map(event -> notificationProducer.send(event.getTopic(), event.getMessageKey(), event.getPayload()))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("⚠️ Outbox batch did not complete cleanly - {}", e.getMessage());
+        }
+
+        // Later events for a failed key stay queued so the recipient still sees them in order.
+        Set<String> blockedKeys = new HashSet<>();
+        List<Long> publishedIds = new ArrayList<>();
+        int failures = 0;
+        for (int i = 0; i < due.size(); i++) {
+            OutboxEvent event = due.get(i);
+            CompletableFuture<?> future = futures.get(i);
+            boolean failed = !future.isDone() || future.isCompletedExceptionally();
+            if (failed || blockedKeys.contains(event.getMessageKey())) {
+                blockedKeys.add(event.getMessageKey());
+                if (failed) {
+                    markFailed(event, future, now);
+                    failures++;
+                }
+                continue;
+            }
+            publishedIds.add(event.getId());
+        }
+        outboxEventRepo.deleteAllByIdInBatch(publishedIds);
+        Counter.builder("outbox.published").register(meterRegistry).increment(publishedIds.size());
+        Counter.builder("outbox.failed").register(meterRegistry).increment(failures);
+        return publishedIds.size();
+    }
+
+    private void markFailed(OutboxEvent event, CompletableFuture<?> future, LocalDateTime now) {
+        event.setAttempts(event.getAttempts() + 1);
+        String error = future.isDone() ? future.exceptionNow().getMessage() : "Timed out waiting for broker ack";
+        event.setLastError(error != null && error.length() > 1024 ? error.substring(0, 1024) : error);
+        if (event.getAttempts() >= maxAttempts) {
+            // A poison event (e.g. over the broker's size limit) would otherwise hold back its key forever.
+            event.setParkedAt(now);
+            event.setNextAttemptAt(null);
+            Counter.builder("outbox.parked.events").register(meterRegistry).increment();
+            log.error("❌ Outbox event {} for {} parked after {} attempts: {}",
+                    event.getId(), event.getMessageKey(), event.getAttempts(), event.getLastError());
+            return;
+        }
+        event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+        log.warn("⚠️ Outbox event {} for {} failed (attempt {}), retrying at {}: {}",
+                event.getId(), event.getMessageKey(), event.getAttempts(), event.getNextAttemptAt(), event.getLastError());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = backoffInitial.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private void recordBacklog() {
+        pending.set(outboxEventRepo.countByParkedAtIsNull());
+        parked.set(outboxEventRepo.countByParkedAtIsNotNull());
+        lagSeconds.set(outboxEventRepo.findFirstByParkedAtIsNullOrderByIdAsc()
+                .map(event -> Duration.between(event.getCreatedAt(), LocalDateTime.now()).toSeconds())
+                .orElse(0L));
+        meterRegistry.gauge("outbox.pending", pending);
+        meterRegistry.gauge("outbox.parked", parked);
+        meterRegistry.gauge("outbox.lag.seconds", lagSeconds);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.taskservice.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.UserEvent;
+import org.example.taskservice.service.UserProjectionService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+    private final ObjectMapper objectMapper;
+    private final UserProjectionService userProjectionService;
+
+    @KafkaListener(topics = "user-events", groupId = "task-service-user-projection",
+            properties = "auto.offset.reset=earliest")
+    public void consume(String message) {
+        UserEvent event;
+        try {
+            event = objectMapper.readValue(message, UserEvent.class);
+        } catch (JsonProcessingException e) {
+            log.error("❌ Skipping malformed user event: {}", message, e);
+            return;
+        }
+        userProjectionService.apply(event, "event");
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_key_id", columnList = "message_key, id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    // No pooling: the relay publishes in id order, so ids must follow nextval order across replicas.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false)
+    private String messageKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(length = 1024)
+    private String lastError;
+
+    // Set after a failed send; the event and every later one for its key wait until then.
+    private LocalDateTime nextAttemptAt;
+
+    // Set once the event runs out of attempts; parked events are no longer relayed and stop holding back their key.
+    private LocalDateTime parkedAt;
+}
@@ -0,0 +1,40 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.taskservice.dto.JobRunStatus;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_job_run_name_started", columnList = "job_name, started_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobName;
+
+    @Column(nullable = false)
+    private String instanceId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobRunStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1024)
+    private String error;
+}
@@ -11,6 +11,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+// Listings read task_view, which carries the manager/assignee indexes; the reminder scan still walks (due_date, id).
+@Table(indexes = {
+        @Index(name = "idx_task_due_id", columnList = "due_date, id")
+})
 @Getter
 @Setter
 @Builder
@@ -18,7 +22,8 @@ import java.util.UUID;
 @NoArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,32 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStats implements Persistable<TaskStatsKey> {
+    @EmbeddedId
+    private TaskStatsKey id;
+
+    // Only the reconciliation job saves entities, always into an emptied table, so every row is inserted.
+    @Transient
+    @Builder.Default
+    private boolean newRow = true;
+
+    @Column(nullable = false)
+    private long taskCount;
+
+    @Column(nullable = false)
+    private long overdueCount;
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+}
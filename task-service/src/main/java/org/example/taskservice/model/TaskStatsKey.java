@@ -0,0 +1,30 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.dto.TaskStatus;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskStatsKey implements Serializable {
+    @Column(nullable = false)
+    private UUID managerId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+}
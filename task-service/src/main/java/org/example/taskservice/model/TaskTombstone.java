@@ -0,0 +1,36 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Records a task leaving a scope: deleted outright, or reassigned away from its previous worker (managerId null).
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_task_tombstone_manager_removed", columnList = "manager_id, removed_at, task_id"),
+        @Index(name = "idx_task_tombstone_assignee_removed", columnList = "assignee_id, removed_at, task_id"),
+        @Index(name = "idx_task_tombstone_removed", columnList = "removed_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstone_seq")
+    @SequenceGenerator(name = "task_tombstone_seq", sequenceName = "task_tombstone_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    private UUID managerId;
+
+    private UUID assigneeId;
+
+    @Column(nullable = false)
+    private LocalDateTime removedAt;
+}
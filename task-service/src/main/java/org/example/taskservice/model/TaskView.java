@@ -0,0 +1,143 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.taskservice.dto.*;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_task_view_manager_due_id", columnList = "manager_id, due_date, id"),
+        @Index(name = "idx_task_view_assignee_due_id", columnList = "assignee_id, due_date, id"),
+        @Index(name = "idx_task_view_due_id", columnList = "due_date, id"),
+        @Index(name = "idx_task_view_manager_status_due", columnList = "manager_id, status, due_date"),
+        @Index(name = "idx_task_view_manager_extension_due", columnList = "manager_id, extension_status, due_date"),
+        @Index(name = "idx_task_view_manager_updated_id", columnList = "manager_id, last_updated, id"),
+        @Index(name = "idx_task_view_assignee_updated_id", columnList = "assignee_id, last_updated, id")
+})
+@SqlResultSetMapping(
+        name = TaskView.SEARCH_HIT_MAPPING,
+        entities = @EntityResult(entityClass = TaskView.class),
+        columns = @ColumnResult(name = "rank", type = Float.class)
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskView implements Persistable<Long> {
+    public static final String SEARCH_HIT_MAPPING = "TaskViewSearchHit";
+
+    @Id
+    private Long id;
+
+    // Set by the projector so new rows are persisted (and batched) instead of merged one select at a time.
+    @Transient
+    private boolean newRow;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private UUID assigneeId;
+
+    private String assigneeName;
+
+    private String assigneeEmail;
+
+    @Enumerated(EnumType.STRING)
+    private Role assigneeRole;
+
+    @Column(nullable = false)
+    private UUID managerId;
+
+    private String managerName;
+
+    private String managerEmail;
+
+    @Enumerated(EnumType.STRING)
+    private Role managerRole;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Column(nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String rejectionNote;
+
+    @Column(columnDefinition = "TEXT")
+    private String completionNote;
+
+    private String submissionUrl;
+
+    @Enumerated(EnumType.STRING)
+    private ExtensionStatus extensionStatus;
+
+    @Column(length = 1024)
+    private String extensionReason;
+
+    @Column(length = 1024)
+    private String extensionRejectReason;
+
+    private LocalDate extensionRequestedDueDate;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime lastUpdated;
+
+    public static TaskView of(Task task, User assignee, User manager) {
+        Optional<TaskExtension> extension = Optional.ofNullable(task.getExtension());
+        return TaskView.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .assigneeId(task.getAssigneeId())
+                .assigneeName(assignee != null ? assignee.name() : null)
+                .assigneeEmail(assignee != null ? assignee.email() : null)
+                .assigneeRole(assignee != null ? assignee.role() : null)
+                .managerId(task.getManagerId())
+                .managerName(manager != null ? manager.name() : null)
+                .managerEmail(manager != null ? manager.email() : null)
+                .managerRole(manager != null ? manager.role() : null)
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .status(task.getStatus())
+                .rejectionNote(task.getRejectionNote())
+                .completionNote(task.getCompletionNote())
+                .submissionUrl(task.getSubmissionUrl())
+                .extensionStatus(extension.map(TaskExtension::getStatus).orElse(null))
+                .extensionReason(extension.map(TaskExtension::getReason).orElse(null))
+                .extensionRejectReason(extension.map(TaskExtension::getRejectReason).orElse(null))
+                .extensionRequestedDueDate(extension.map(TaskExtension::getRequestedDueDate).orElse(null))
+                .build();
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    public User toAssignee() {
+        return assigneeEmail == null ? null : new User(assigneeId, assigneeEmail, assigneeName, assigneeRole);
+    }
+
+    public User toManager() {
+        return managerEmail == null ? null : new User(managerId, managerEmail, managerName, managerRole);
+    }
+}
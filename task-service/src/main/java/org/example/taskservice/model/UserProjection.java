@@ -0,0 +1,39 @@
+package org.example.taskservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.taskservice.dto.Role;
+import org.example.taskservice.dto.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProjection {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Role role;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    public User toUser() {
+        return new User(id, email, name, role);
+    }
+}
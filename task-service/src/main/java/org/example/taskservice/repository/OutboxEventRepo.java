@@ -0,0 +1,34 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepo extends JpaRepository<OutboxEvent, Long> {
+    // Due events whose key has no earlier event still backing off, so a burst behind one failed key cannot fill
+    // the batch and stall every other key until the backoff expires.
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.parkedAt IS NULL
+              AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+              AND NOT EXISTS (
+                  SELECT b.id FROM OutboxEvent b
+                  WHERE b.messageKey = e.messageKey AND b.id < e.id
+                    AND b.parkedAt IS NULL AND b.nextAttemptAt > :now)
+            ORDER BY e.id
+            """)
+    List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Limit limit);
+
+    Optional<OutboxEvent> findFirstByParkedAtIsNullOrderByIdAsc();
+    long countByParkedAtIsNull();
+    long countByParkedAtIsNotNull();
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(@Param("key") long key);
+}
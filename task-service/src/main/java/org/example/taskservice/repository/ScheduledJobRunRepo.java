@@ -0,0 +1,11 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.model.ScheduledJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ScheduledJobRunRepo extends JpaRepository<ScheduledJobRun, Long> {
+    List<ScheduledJobRun> findTop50ByOrderByStartedAtDesc();
+    List<ScheduledJobRun> findTop50ByJobNameOrderByStartedAtDesc(String jobName);
+}
@@ -1,17 +1,58 @@
 package org.example.taskservice.repository;
 
-import org.example.taskservice.dto.ExtensionStatus;
+import org.example.taskservice.dto.ReminderCandidate;
+import org.example.taskservice.dto.TaskStatsCount;
 import org.example.taskservice.dto.TaskStatus;
 import org.example.taskservice.model.Task;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
+// Task.extension is the inverse side of a one-to-one and cannot be proxied; fetch it in the same statement.
 public interface TaskRepo extends JpaRepository<Task, Long> {
-    List<Task> findByManagerId(UUID managerId);
-    List<Task> findAllByExtension_Status(ExtensionStatus extensionStatus, Sort sort);
-    List<Task> findAllByStatus(TaskStatus status, Sort sort);
-    List<Task> findByAssigneeId(UUID assigneeId);
+
+    @Override
+    @EntityGraph(attributePaths = "extension")
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "extension")
+    List<Task> findAllById(Iterable<Long> ids);
+
+    @Query("""
+            SELECT t FROM Task t
+            LEFT JOIN FETCH t.extension
+            WHERE t.id > :afterId
+              AND NOT EXISTS (SELECT v.id FROM TaskView v WHERE v.id = t.id)
+            ORDER BY t.id
+            """)
+    List<Task> findUnprojected(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            SELECT new org.example.taskservice.dto.ReminderCandidate(t.id, t.title, t.assigneeId, t.dueDate)
+            FROM Task t
+            WHERE t.status <> :excluded
+              AND (t.dueDate < :dueDate OR (t.dueDate = :dueDate AND t.id < :id))
+            ORDER BY t.dueDate DESC, t.id DESC
+            """)
+    List<ReminderCandidate> findReminderCandidates(@Param("excluded") TaskStatus excluded,
+                                                   @Param("dueDate") LocalDate dueDate,
+                                                   @Param("id") long id,
+                                                   Limit limit);
+
+    @Query("""
+            SELECT new org.example.taskservice.dto.TaskStatsCount(t.managerId, t.status, t.priority, COUNT(t),
+                   SUM(CASE WHEN t.status IN :openStatuses AND t.dueDate < :today THEN 1L ELSE 0L END))
+            FROM Task t
+            GROUP BY t.managerId, t.status, t.priority
+            """)
+    List<TaskStatsCount> countStats(@Param("openStatuses") Collection<TaskStatus> openStatuses,
+                                    @Param("today") LocalDate today);
 }
@@ -0,0 +1,44 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.dto.TaskCursor;
+import org.example.taskservice.dto.TaskStatus;
+import org.example.taskservice.model.TaskView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {}
+
+    public static Specification<TaskView> any() {
+        return (root, query, cb) -> null;
+    }
+
+    public static Specification<TaskView> managedBy(UUID managerId) {
+        return (root, query, cb) -> cb.equal(root.get("managerId"), managerId);
+    }
+
+    public static Specification<TaskView> assignedTo(UUID assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assigneeId"), assigneeId);
+    }
+
+    public static Specification<TaskView> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<TaskView> hasPriority(Priority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<TaskView> after(TaskCursor cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.or(
+                cb.lessThan(root.get("dueDate"), cursor.dueDate()),
+                cb.and(
+                        cb.equal(root.get("dueDate"), cursor.dueDate()),
+                        cb.lessThan(root.get("id"), cursor.id())
+                )
+        );
+    }
+}
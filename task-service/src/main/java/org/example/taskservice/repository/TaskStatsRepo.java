@@ -0,0 +1,38 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.model.TaskStats;
+import org.example.taskservice.model.TaskStatsKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskStatsRepo extends JpaRepository<TaskStats, TaskStatsKey> {
+
+    // One row per (status, priority), so a manager never has more than a dozen rows to read.
+    List<TaskStats> findAllByIdManagerId(UUID managerId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_stats (manager_id, status, priority, task_count, overdue_count)
+            VALUES (:managerId, :status, :priority, :taskDelta, :overdueDelta)
+            ON CONFLICT (manager_id, status, priority) DO UPDATE
+            SET task_count = task_stats.task_count + EXCLUDED.task_count,
+                overdue_count = task_stats.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int applyDelta(@Param("managerId") UUID managerId, @Param("status") String status,
+                   @Param("priority") String priority, @Param("taskDelta") long taskDelta,
+                   @Param("overdueDelta") long overdueDelta);
+
+    // Held until the reconciliation commits: in-flight deltas either land before the recount reads task or after it writes.
+    @Modifying
+    @Query(value = "LOCK TABLE task_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconcile();
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM TaskStats")
+    int deleteAllRows();
+}
@@ -0,0 +1,18 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.model.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface TaskTombstoneRepo extends JpaRepository<TaskTombstone, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.removedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,14 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.dto.TaskSyncWatermark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskViewChangeRepo {
+
+    // scopeColumn is "manager_id" or "assignee_id"; changes after `since` up to and including `until`.
+    List<TaskSyncWatermark> findChanges(String scopeColumn, UUID scopeId, TaskSyncWatermark since,
+                                        LocalDateTime until, int limit);
+}
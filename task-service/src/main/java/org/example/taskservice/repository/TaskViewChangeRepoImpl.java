@@ -0,0 +1,56 @@
+package org.example.taskservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.taskservice.dto.TaskSyncWatermark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class TaskViewChangeRepoImpl implements TaskViewChangeRepo {
+
+    private static final Set<String> SCOPE_COLUMNS = Set.of("manager_id", "assignee_id");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskSyncWatermark> findChanges(String scopeColumn, UUID scopeId, TaskSyncWatermark since,
+                                               LocalDateTime until, int limit) {
+        if (!SCOPE_COLUMNS.contains(scopeColumn)) throw new IllegalArgumentException("Unknown scope column: " + scopeColumn);
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT c.task_id, c.changed_at, c.removed
+                        FROM (
+                            SELECT v.id AS task_id, v.last_updated AS changed_at, 0 AS removed
+                            FROM task_view v
+                            WHERE v.%1$s = :scopeId AND v.last_updated >= :since AND v.last_updated <= :until
+                            UNION ALL
+                            SELECT t.task_id, t.removed_at, 1
+                            FROM task_tombstone t
+                            WHERE t.%1$s = :scopeId AND t.removed_at >= :since AND t.removed_at <= :until
+                        ) c
+                        WHERE (c.changed_at, c.removed, c.task_id) > (:since, :sinceRemoved, :sinceTaskId)
+                        ORDER BY c.changed_at, c.removed, c.task_id
+                        LIMIT :limit
+                        """.formatted(scopeColumn))
+                .setParameter("scopeId", scopeId)
+                .setParameter("since", since.changedAt())
+                .setParameter("sinceRemoved", since.removed() ? 1 : 0)
+                .setParameter("sinceTaskId", since.taskId())
+                .setParameter("until", until)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new TaskSyncWatermark(
+                        toLocalDateTime(row[1]), ((Number) row[2]).intValue() == 1, ((Number) row[0]).longValue()))
+                .toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
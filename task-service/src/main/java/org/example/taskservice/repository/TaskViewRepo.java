@@ -0,0 +1,78 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.dto.ExtensionStatus;
+import org.example.taskservice.dto.Role;
+import org.example.taskservice.dto.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.example.taskservice.model.TaskView;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface TaskViewRepo extends JpaRepository<TaskView, Long>, JpaSpecificationExecutor<TaskView>,
+        TaskViewSearchRepo, TaskViewChangeRepo {
+    List<TaskView> findAllByManagerId(UUID managerId, Sort sort);
+    List<TaskView> findAllByAssigneeId(UUID assigneeId, Sort sort);
+    List<TaskView> findAllByManagerIdAndStatus(UUID managerId, TaskStatus status, Sort sort);
+    List<TaskView> findAllByManagerIdAndExtensionStatus(UUID managerId, ExtensionStatus extensionStatus, Sort sort);
+
+    // Forward-only cursor for exports; the caller must hold a transaction and close the stream.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT v FROM TaskView v ORDER BY v.id")
+    Stream<TaskView> streamAllForExport();
+
+    @Query("""
+            SELECT v FROM TaskView v
+            WHERE (v.assigneeId = :userId
+                   AND (v.assigneeName IS DISTINCT FROM :name
+                        OR v.assigneeEmail IS DISTINCT FROM :email
+                        OR v.assigneeRole IS DISTINCT FROM :role))
+               OR (v.managerId = :userId
+                   AND (v.managerName IS DISTINCT FROM :name
+                        OR v.managerEmail IS DISTINCT FROM :email
+                        OR v.managerRole IS DISTINCT FROM :role))
+            """)
+    List<TaskView> findStaleForUser(@Param("userId") UUID userId, @Param("name") String name,
+                                    @Param("email") String email, @Param("role") Role role);
+
+    // Only rows whose copy actually differs are touched, so a resync of unchanged users leaves lastUpdated alone.
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE TaskView v
+            SET v.assigneeName = :name, v.assigneeEmail = :email, v.assigneeRole = :role, v.lastUpdated = :now
+            WHERE v.assigneeId = :userId
+              AND (v.assigneeName IS DISTINCT FROM :name
+                   OR v.assigneeEmail IS DISTINCT FROM :email
+                   OR v.assigneeRole IS DISTINCT FROM :role)
+            """)
+    int updateAssignee(@Param("userId") UUID userId, @Param("name") String name,
+                       @Param("email") String email, @Param("role") Role role, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE TaskView v
+            SET v.managerName = :name, v.managerEmail = :email, v.managerRole = :role, v.lastUpdated = :now
+            WHERE v.managerId = :userId
+              AND (v.managerName IS DISTINCT FROM :name
+                   OR v.managerEmail IS DISTINCT FROM :email
+                   OR v.managerRole IS DISTINCT FROM :role)
+            """)
+    int updateManager(@Param("userId") UUID userId, @Param("name") String name,
+                      @Param("email") String email, @Param("role") Role role, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,15 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.dto.TaskSearchCursor;
+import org.example.taskservice.model.TaskView;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskViewSearchRepo {
+
+    // managerId / assigneeId narrow the search to one scope; null leaves that column unfiltered.
+    List<SearchHit> search(String query, UUID managerId, UUID assigneeId, TaskSearchCursor after, int limit);
+
+    record SearchHit(TaskView task, float rank) {}
+}
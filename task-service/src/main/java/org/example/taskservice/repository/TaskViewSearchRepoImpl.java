@@ -0,0 +1,47 @@
+package org.example.taskservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.example.taskservice.dto.TaskSearchCursor;
+import org.example.taskservice.model.TaskView;
+
+import java.util.List;
+import java.util.UUID;
+
+public class TaskViewSearchRepoImpl implements TaskViewSearchRepo {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchHit> search(String query, UUID managerId, UUID assigneeId, TaskSearchCursor after, int limit) {
+        Query search = entityManager.createNativeQuery(
+                        searchSql(managerId != null, assigneeId != null, after != null), TaskView.SEARCH_HIT_MAPPING)
+                .setParameter("query", query)
+                .setParameter("limit", limit);
+        if (managerId != null) search.setParameter("managerId", managerId);
+        if (assigneeId != null) search.setParameter("assigneeId", assigneeId);
+        if (after != null) {
+            search.setParameter("afterRank", after.rank());
+            search.setParameter("afterId", after.id());
+        }
+        return ((List<Object[]>) search.getResultList()).stream()
+                .map(row -> new SearchHit((TaskView) row[0], ((Number) row[1]).floatValue()))
+                .toList();
+    }
+
+    // Keyset paging on (rank, id): both sort descending, so the next page is every row strictly below the cursor.
+    static String searchSql(boolean byManager, boolean byAssignee, boolean afterCursor) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT v.*, ts_rank(v.search_vector, q.query) AS rank
+                FROM task_view v, websearch_to_tsquery('english', :query) AS q(query)
+                WHERE v.search_vector @@ q.query
+                """);
+        if (byManager) sql.append("AND v.manager_id = :managerId\n");
+        if (byAssignee) sql.append("AND v.assignee_id = :assigneeId\n");
+        if (afterCursor) sql.append("AND (ts_rank(v.search_vector, q.query), v.id) < (:afterRank, :afterId)\n");
+        return sql.append("ORDER BY rank DESC, v.id DESC\nLIMIT :limit").toString();
+    }
+}
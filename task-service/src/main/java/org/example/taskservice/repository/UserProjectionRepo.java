@@ -0,0 +1,34 @@
+package org.example.taskservice.repository;
+
+import org.example.taskservice.model.UserProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserProjectionRepo extends JpaRepository<UserProjection, UUID> {
+
+    // Events can arrive out of order or overlap with the snapshot; only a strictly newer version is applied, so a
+    // replayed one reports as stale. Versionless rows from before updated_at existed fall back to comparing content.
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_projection (id, email, name, role, updated_at, synced_at)
+            VALUES (:id, :email, :name, :role, :updatedAt, :syncedAt)
+            ON CONFLICT (id) DO UPDATE
+            SET email = EXCLUDED.email, name = EXCLUDED.name, role = EXCLUDED.role,
+                updated_at = EXCLUDED.updated_at, synced_at = EXCLUDED.synced_at
+            WHERE user_projection.updated_at < EXCLUDED.updated_at
+               OR (user_projection.updated_at IS NULL AND EXCLUDED.updated_at IS NOT NULL)
+               OR (EXCLUDED.updated_at IS NULL
+                   AND (user_projection.email, user_projection.name, user_projection.role)
+                       IS DISTINCT FROM (EXCLUDED.email, EXCLUDED.name, EXCLUDED.role))
+            """, nativeQuery = true)
+    int upsert(@Param("id") UUID id, @Param("email") String email, @Param("name") String name,
+               @Param("role") String role, @Param("updatedAt") LocalDateTime updatedAt,
+               @Param("syncedAt") LocalDateTime syncedAt);
+}
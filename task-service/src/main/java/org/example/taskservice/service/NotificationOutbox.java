@@ -0,0 +1,44 @@
+package org.example.taskservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.taskservice.dto.Notifications;
+import org.example.taskservice.model.OutboxEvent;
+import org.example.taskservice.repository.OutboxEventRepo;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final OutboxEventRepo outboxEventRepo;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void enqueue(Notifications notification) {
+        outboxEventRepo.save(toEvent(notification));
+    }
+
+    @Transactional
+    public void enqueueAll(List<Notifications> notifications) {
+        outboxEventRepo.saveAll(notifications.stream().map(this::toEvent).toList());
+    }
+
+    private OutboxEvent toEvent(Notifications notification) {
+        try {
+            return OutboxEvent.builder()
+                    .topic("notifications")
+                    .messageKey(notification.recipientId().toString())
+                    .payload(objectMapper.writeValueAsString(notification))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification for " + notification.recipientId(), e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.taskservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.JobRunStatus;
+import org.example.taskservice.model.ScheduledJobRun;
+import org.example.taskservice.repository.ScheduledJobLockRepo;
+import org.example.taskservice.repository.ScheduledJobRunRepo;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private final ScheduledJobLockRepo lockRepo;
+    private final ScheduledJobRunRepo runRepo;
+
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName();
+
+    // lockAtLeastFor keeps the lease past a fast run so replicas whose clocks tick slightly later still skip it.
+    public boolean runLocked(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        lockRepo.insertIfAbsent(jobName, startedAt);
+        if (lockRepo.acquire(jobName, instanceId, startedAt, startedAt.plus(lockAtMostFor)) == 0) {
+            log.info("⏭️ Skipping job {} - lock is held by another instance", jobName);
+            return false;
+        }
+        ScheduledJobRun run = ScheduledJobRun.builder()
+                .jobName(jobName)
+                .instanceId(instanceId)
+                .status(JobRunStatus.RUNNING)
+                .startedAt(startedAt)
+                .build();
+        try {
+            run = runRepo.save(run);
+            job.run();
+            run.setStatus(JobRunStatus.SUCCEEDED);
+        } catch (Exception e) {
+            log.error("❌ Job {} failed: {}", jobName, e.getMessage(), e);
+            String error = e.getMessage();
+            run.setStatus(JobRunStatus.FAILED);
+            run.setError(error != null && error.length() > 1024 ? error.substring(0, 1024) : error);
+        } finally {
+            LocalDateTime finishedAt = LocalDateTime.now();
+            // Recording the run must neither skip the release nor mask the job's own outcome.
+            try {
+                run.setFinishedAt(finishedAt);
+                runRepo.save(run);
+            } catch (Exception e) {
+                log.error("❌ Failed to record run of job {}: {}", jobName, e.getMessage(), e);
+            } finally {
+                LocalDateTime minimumHold = startedAt.plus(lockAtLeastFor);
+                lockRepo.release(jobName, instanceId, finishedAt.isAfter(minimumHold) ? finishedAt : minimumHold);
+            }
+        }
+        return true;
+    }
+
+    public List<ScheduledJobRun> getRecentRuns(String jobName) {
+        return jobName == null
+                ? runRepo.findTop50ByOrderByStartedAtDesc()
+                : runRepo.findTop50ByJobNameOrderByStartedAtDesc(jobName);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.taskservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.cache.TaskPageCache;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskView;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final TaskPageCache taskPageCache;
+
+    public void evictTask(Task task, UUID... previousAssigneeIds) {
+        Set<UUID> workerIds = new LinkedHashSet<>();
+        workerIds.add(task.getAssigneeId());
+        Arrays.stream(previousAssigneeIds).filter(Objects::nonNull).forEach(workerIds::add);
+        List<Target> targets = List.of(new Target(task.getId(), task.getManagerId(), workerIds));
+        runAfterCommit(() -> evict(targets));
+    }
+
+    public void evictTasks(Collection<Task> tasks, Map<Long, UUID> previousAssigneeIds) {
+        List<Target> targets = tasks.stream()
+                .map(task -> {
+                    Set<UUID> workerIds = new LinkedHashSet<>();
+                    workerIds.add(task.getAssigneeId());
+                    Optional.ofNullable(previousAssigneeIds.get(task.getId())).ifPresent(workerIds::add);
+                    return new Target(task.getId(), task.getManagerId(), workerIds);
+                })
+                .toList();
+        runAfterCommit(() -> evict(targets));
+    }
+
+    public void evictViews(Collection<TaskView> views) {
+        List<Target> targets = views.stream()
+                .map(view -> new Target(view.getId(), view.getManagerId(),
+                        view.getAssigneeId() == null ? Set.of() : Set.of(view.getAssigneeId())))
+                .toList();
+        runAfterCommit(() -> evict(targets));
+    }
+
+    private void evict(List<Target> targets) {
+        Set<UUID> managerIds = new LinkedHashSet<>();
+        Set<UUID> workerIds = new LinkedHashSet<>();
+        targets.forEach(target -> {
+            managerIds.add(target.managerId());
+            workerIds.addAll(target.workerIds());
+        });
+        evictKey("allTasks", SimpleKey.EMPTY);
+        taskPageCache.evictScope("all", null);
+        managerIds.forEach(managerId -> {
+            evictKey("managerTasks", managerId);
+            evictKey("extensionRequests", managerId);
+            evictKey("submittedTasks", managerId);
+            taskPageCache.evictScope("manager", managerId);
+        });
+        workerIds.forEach(workerId -> {
+            evictKey("workerTasks", workerId);
+            taskPageCache.evictScope("worker", workerId);
+        });
+        targets.stream().filter(target -> target.taskId() != null).forEach(target -> {
+            evictKey("taskDetail", "taskDetail::" + target.managerId() + "-" + target.taskId());
+            target.workerIds().forEach(workerId -> evictKey("taskDetail", "taskDetail::" + workerId + "-" + target.taskId()));
+        });
+        log.debug("🧹 Evicted cache entries for {} tasks (managers: {}, workers: {})", targets.size(), managerIds, workerIds);
+    }
+
+    private void evictKey(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) cache.evict(key);
+    }
+
+    private void runAfterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private record Target(Long taskId, UUID managerId, Set<UUID> workerIds) {}
+}
@@ -0,0 +1,129 @@
+package org.example.taskservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskExportFormat;
+import org.example.taskservice.dto.User;
+import org.example.taskservice.model.TaskView;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskExporter {
+
+    static final String CSV_HEADER = "id,title,description,status,priority,dueDate,"
+            + "assigneeId,assigneeName,assigneeEmail,managerId,managerName,managerEmail,"
+            + "rejectionNote,completionNote,submissionUrl,extensionStatus,extensionReason,extensionRequestedDueDate";
+
+    private final TaskViewRepo taskViewRepo;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${task-export.chunk-size:500}")
+    private int chunkSize;
+
+    // Runs on the async response thread: a read-only transaction keeps the Postgres cursor open while rows stream out.
+    public void export(TaskExportFormat format, OutputStream out) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long started = System.nanoTime();
+        long rows = Objects.requireNonNull(readOnly.execute(status -> {
+            try (Stream<TaskView> views = taskViewRepo.streamAllForExport()) {
+                return write(views, format, out, entityManager::clear);
+            }
+        }));
+        log.info("📤 Exported {} tasks as {} in {} ms", rows, format, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    long write(Stream<TaskView> views, TaskExportFormat format, OutputStream out, Runnable afterChunk) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == TaskExportFormat.CSV) writer.write(CSV_HEADER + "\n");
+            long rows = 0;
+            List<TaskView> chunk = new ArrayList<>(chunkSize);
+            Iterator<TaskView> iterator = views.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    writeChunk(chunk, format, writer);
+                    rows += chunk.size();
+                    chunk.clear();
+                    writer.flush();
+                    afterChunk.run();
+                }
+            }
+            writer.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task export aborted after a write failure", e);
+        }
+    }
+
+    private void writeChunk(List<TaskView> chunk, TaskExportFormat format, Writer writer) throws IOException {
+        Map<UUID, User> users = missingUsers(chunk);
+        for (TaskView view : chunk) {
+            User assignee = Optional.ofNullable(view.toAssignee()).orElse(users.get(view.getAssigneeId()));
+            User manager = Optional.ofNullable(view.toManager()).orElse(users.get(view.getManagerId()));
+            if (format == TaskExportFormat.CSV) {
+                writer.write(csvRow(view, assignee, manager));
+            } else {
+                writer.write(objectMapper.writeValueAsString(withUsers(new TaskDetails(view), assignee, manager)));
+            }
+            writer.write('\n');
+        }
+    }
+
+    // The view normally carries user details already; only rows projected while the user lookup failed need one.
+    private Map<UUID, User> missingUsers(List<TaskView> chunk) {
+        Set<UUID> ids = new HashSet<>();
+        chunk.forEach(view -> {
+            if (view.toAssignee() == null) ids.add(view.getAssigneeId());
+            if (view.toManager() == null) ids.add(view.getManagerId());
+        });
+        return ids.isEmpty() ? Map.of() : userService.getUsersByIds(ids);
+    }
+
+    private TaskDetails withUsers(TaskDetails details, User assignee, User manager) {
+        return new TaskDetails(details.id(), details.title(), details.description(), assignee, manager,
+                details.priority(), details.dueDate(), details.status(), details.rejectNote(),
+                details.completionNote(), details.submissionUrl(), details.extension());
+    }
+
+    private String csvRow(TaskView view, User assignee, User manager) {
+        return String.join(",",
+                csv(view.getId()), csv(view.getTitle()), csv(view.getDescription()), csv(view.getStatus()),
+                csv(view.getPriority()), csv(view.getDueDate()),
+                csv(view.getAssigneeId()), csv(assignee != null ? assignee.name() : null), csv(assignee != null ? assignee.email() : null),
+                csv(view.getManagerId()), csv(manager != null ? manager.name() : null), csv(manager != null ? manager.email() : null),
+                csv(view.getRejectionNote()), csv(view.getCompletionNote()), csv(view.getSubmissionUrl()),
+                csv(view.getExtensionStatus()), csv(view.getExtensionReason()), csv(view.getExtensionRequestedDueDate()));
+    }
+
+    static String csv(Object value) {
+        if (value == null) return "";
+        String text = value.toString();
+        if (text.isEmpty()) return text;
+        // Neutralise spreadsheet formulas in free-text fields before quoting.
+        if ("=+-@".indexOf(text.charAt(0)) >= 0) text = "'" + text;
+        if (text.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) return text;
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
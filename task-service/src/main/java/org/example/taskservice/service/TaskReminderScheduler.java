@@ -1,52 +1,104 @@
 package org.example.taskservice.service;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.taskservice.dto.Notifications;
+import org.example.taskservice.dto.ReminderCandidate;
+import org.example.taskservice.dto.TaskStatus;
 import org.example.taskservice.kafka.NotificationProducer;
-import org.example.taskservice.model.Task;
 import org.example.taskservice.repository.TaskRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class TaskReminderScheduler {
 
     private final TaskRepo taskRepository;
     private final NotificationProducer notificationProducer;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    private final AtomicLong lastRunThroughput = new AtomicLong();
+
+    @Value("${reminders.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${reminders.send-timeout:30s}")
+    private Duration sendTimeout;
 
     @Scheduled(cron = "0 0 9 * * *")
+    public void scheduleDailyReminders() {
+        scheduledJobRunner.runLocked("task-daily-reminders", Duration.ofMinutes(30), Duration.ofMinutes(1),
+                this::sendDailyReminders);
+    }
+
     public void sendDailyReminders() {
         log.info("Starting daily task reminders...");
+        long startedAt = System.nanoTime();
+        long sent = 0;
+        long failed = 0;
 
-        List<Task> tasks = taskRepository.findAll().stream()
-                .filter(task -> !task.isCompleted())
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> task.getDueDate().minusDays(1).isBefore(LocalDate.now()))
-                .toList();
-        tasks.forEach(task ->
-                Thread.startVirtualThread(() -> safeSendDeadlineReminder(task))
-        );
+        LocalDate dueDate = LocalDate.now().plusDays(1);
+        long lastId = 0;
+        List<ReminderCandidate> chunk;
+        do {
+            chunk = taskRepository.findReminderCandidates(TaskStatus.COMPLETED, dueDate, lastId, Limit.of(chunkSize));
+            if (chunk.isEmpty()) break;
+            long chunkFailed = sendChunk(chunk);
+            failed += chunkFailed;
+            sent += chunk.size() - chunkFailed;
+            Timer.builder("task.reminders.lag")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            ReminderCandidate last = chunk.getLast();
+            dueDate = last.dueDate();
+            lastId = last.id();
+        } while (chunk.size() == chunkSize);
+
+        recordRun(startedAt, sent, failed);
     }
 
-    private void safeSendDeadlineReminder(Task task) {
+    private long sendChunk(List<ReminderCandidate> chunk) {
+        List<Notifications> notifications = chunk.stream()
+                .map(task -> new Notifications(
+                        "Reminder: Task \"" + task.title() + "\" is due tomorrow!",
+                        task.assigneeId(),
+                        false))
+                .toList();
+        List<? extends CompletableFuture<?>> futures = notificationProducer.sendBatch(notifications);
         try {
-            log.info("Sending reminder for task: {}", task.getTitle());
-            notificationProducer.sendNotification(
-                    new Notifications(
-                            "Reminder: Task \"" + task.getTitle() + "\" is due tomorrow!",
-                            task.getAssigneeId(),
-                            false
-                    )
-            );
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
         } catch (Exception e) {
-            log.error("Failed to send reminder for task: {} - {}", task.getTitle(), e.getMessage());
+            log.error("Reminder chunk did not complete cleanly - {}", e.getMessage());
         }
+        return futures.stream()
+                .filter(future -> !future.isDone() || future.isCompletedExceptionally())
+                .count();
     }
 
+    private void recordRun(long startedAt, long sent, long failed) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder("task.reminders.run").register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("task.reminders.sent").register(meterRegistry).increment(sent);
+        Counter.builder("task.reminders.failed").register(meterRegistry).increment(failed);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        lastRunThroughput.set(sent * 1000 / elapsedMillis);
+        meterRegistry.gauge("task.reminders.throughput", lastRunThroughput);
+        log.info("Daily task reminders complete. Sent {}, failed {} in {} ms.", sent, failed, elapsedMillis);
+    }
 }
@@ -2,42 +2,65 @@ package org.example.taskservice.service;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.taskservice.cache.TaskPageCache;
 import org.example.taskservice.dto.*;
 import org.example.taskservice.exception.ResourceNotFoundException;
-import org.example.taskservice.kafka.NotificationProducer;
 import org.example.taskservice.model.Task;
 import org.example.taskservice.model.TaskExtension;
+import org.example.taskservice.model.TaskView;
 import org.example.taskservice.repository.TaskRepo;
-import org.springframework.cache.annotation.CacheEvict;
+import org.example.taskservice.repository.TaskSpecifications;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.example.taskservice.repository.TaskViewSearchRepo;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
     private final TaskRepo taskRepo;
+    private final TaskViewRepo taskViewRepo;
+    private final TaskViewProjector taskViewProjector;
     private final UserService userService;
-    private final NotificationProducer notificationProducer;
+    private final NotificationOutbox notificationOutbox;
+    private final TaskCacheEvictor taskCacheEvictor;
+    private final TaskPageCache taskPageCache;
+    private final TaskStatsService taskStatsService;
 
     private final Sort sort = Sort.by(Sort.Direction.DESC,"dueDate");
+    private final Sort pageSort = Sort.by(Sort.Direction.DESC, "dueDate", "id");
 
     @Cacheable(value = "allTasks")
     public List<TaskDetails> getAllTasks() {
-        List<Task> tasks = taskRepo.findAll(sort);
-        Map<UUID, User> userMap = getUserMapFromTasks(tasks);
-        return tasks.stream()
-                .map(task -> new TaskDetails(task, userMap.get(task.getAssigneeId()), userMap.get(task.getManagerId())))
-                .toList();
+        return toDetails(taskViewRepo.findAll(sort));
+    }
+
+    public TaskPage getAllTasksPage(TaskPageRequest request) {
+        return taskPageCache.get("all", null, request.cacheKey(),
+                () -> loadPage(TaskSpecifications.any(), request));
+    }
+
+    public TaskPage getTasksByManagerPage(UUID managerId, TaskPageRequest request) {
+        return taskPageCache.get("manager", managerId, request.cacheKey(),
+                () -> loadPage(TaskSpecifications.managedBy(managerId), request));
+    }
+
+    public TaskPage getTasksByWorkerPage(UUID workerId, TaskPageRequest request) {
+        return taskPageCache.get("worker", workerId, request.cacheKey(),
+                () -> loadPage(TaskSpecifications.assignedTo(workerId), request));
+    }
+
+    // Read before the list itself: a write landing in between then only costs the client one extra full response.
+    public String getTasksVersion(String scope, UUID scopeId) {
+        return taskPageCache.generation(scope, scopeId);
     }
 
     @Cacheable(value = "taskDetail", key = "'taskDetail::' + #userId + '-' + #taskId")
@@ -50,122 +73,114 @@ public class TaskService {
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response createTask(UUID id, @Valid TaskRequest request) {
-        Task savedTask = taskRepo.save(
-                Task.builder()
-                        .title(request.title())
-                        .description(request.description())
-                        .assigneeId(request.assigneeId())
-                        .managerId(id)
-                        .dueDate(request.dueDate())
-                        .priority(request.priority())
-                        .build()
-        );
-        notificationProducer.sendNotification(new Notifications(
+        Task savedTask = taskRepo.save(newTask(id, request));
+        taskViewProjector.project(savedTask);
+        taskStatsService.added(List.of(savedTask));
+        taskCacheEvictor.evictTask(savedTask);
+        notificationOutbox.enqueue(new Notifications(
                 "New Task assigned: " + savedTask.getTitle(), savedTask.getAssigneeId(), false));
         return new Response("Task Created Successfully", HttpStatus.CREATED);
     }
 
+    @Transactional
+    public Response createTasks(UUID managerId, List<TaskRequest> requests) {
+        List<Task> tasks = taskRepo.saveAll(requests.stream().map(request -> newTask(managerId, request)).toList());
+        taskViewProjector.project(tasks);
+        taskStatsService.added(tasks);
+        taskCacheEvictor.evictTasks(tasks, Map.of());
+        notificationOutbox.enqueueAll(tasks.stream()
+                .map(task -> new Notifications("New Task assigned: " + task.getTitle(), task.getAssigneeId(), false))
+                .toList());
+        return new Response(tasks.size() + " Tasks Created Successfully", HttpStatus.CREATED);
+    }
+
     @Cacheable(value = "managerTasks", key = "#managerId")
     public List<TaskDetails> getTasksByManager(UUID managerId) {
-        List<Task> tasks = taskRepo.findByManagerId(managerId);
-        Map<UUID, User> userMap = getUserMapFromTasks(tasks);
-        return tasks.stream()
-                .map(task -> new TaskDetails(task, userMap.get(task.getAssigneeId()), userMap.get(task.getManagerId())))
-                .toList();
+        return toDetails(taskViewRepo.findAllByManagerId(managerId, sort));
     }
 
     @Cacheable(value = "workerTasks", key = "#workerId")
     public List<TaskDetails> getTasksByWorker(UUID workerId) {
-        List<Task> tasks = taskRepo.findByAssigneeId(workerId);
-        Map<UUID, User> userMap = getUserMapFromTasks(tasks);
-        return tasks.stream()
-                .map(task -> new TaskDetails(task, userMap.get(task.getAssigneeId()), userMap.get(task.getManagerId())))
-                .toList();
+        return toDetails(taskViewRepo.findAllByAssigneeId(workerId, sort));
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response updateTask(UUID managerId, Long taskId, @Valid TaskRequest request) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getManagerId().equals(managerId))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
         if (task.isCompleted()) throw new IllegalStateException("Completed task cannot be updated.");
-        task.setTitle(request.title());
-        task.setDescription(request.description());
-        task.setAssigneeId(request.assigneeId());
-        task.setPriority(request.priority());
+        UUID previousAssigneeId = task.getAssigneeId();
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
+        applyChanges(task, request);
         taskRepo.save(task);
-        notificationProducer.sendNotification(new Notifications(
+        taskViewProjector.project(task);
+        taskStatsService.moved(before, task);
+        taskCacheEvictor.evictTask(task, previousAssigneeId);
+        notificationOutbox.enqueue(new Notifications(
                 "Task details updated: " + task.getTitle(), task.getAssigneeId(), false));
         return new Response("Task Updated Successfully", HttpStatus.OK);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
+    public Response updateTasks(UUID managerId, List<TaskUpdate> updates) {
+        Map<Long, TaskRequest> changes = new HashMap<>();
+        updates.forEach(update -> {
+            if (changes.put(update.taskId(), update.task()) != null)
+                throw new IllegalArgumentException("Task ID listed more than once: " + update.taskId());
+        });
+        List<Task> tasks = findManagedTasks(managerId, changes.keySet());
+        Map<Long, TaskStatsService.Entry> before = taskStatsService.snapshot(tasks);
+        Map<Long, UUID> previousAssigneeIds = new HashMap<>();
+        for (Task task : tasks) {
+            if (task.isCompleted()) throw new IllegalStateException("Completed task cannot be updated: " + task.getId());
+            previousAssigneeIds.put(task.getId(), task.getAssigneeId());
+            applyChanges(task, changes.get(task.getId()));
+        }
+        taskRepo.saveAll(tasks);
+        taskViewProjector.project(tasks);
+        taskStatsService.moved(before, tasks);
+        taskCacheEvictor.evictTasks(tasks, previousAssigneeIds);
+        notificationOutbox.enqueueAll(tasks.stream()
+                .map(task -> new Notifications("Task details updated: " + task.getTitle(), task.getAssigneeId(), false))
+                .toList());
+        return new Response(tasks.size() + " Tasks Updated Successfully", HttpStatus.OK);
+    }
+
+    @Transactional
     public Response deleteTask(UUID managerId, Long taskId) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getManagerId().equals(managerId))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
         if (task.isCompleted()) throw new IllegalStateException("Completed tasks cannot be deleted.");
         taskRepo.delete(task);
-        notificationProducer.sendNotification(new Notifications(
+        taskViewProjector.remove(task);
+        taskStatsService.removed(task);
+        taskCacheEvictor.evictTask(task);
+        notificationOutbox.enqueue(new Notifications(
                 "Task removed: " + task.getTitle(), task.getAssigneeId(), false));
         return new Response("Task Deleted Successfully", HttpStatus.OK);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response markTaskAsComplete(UUID workerId, Long taskId, CompletionRequest request) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getAssigneeId().equals(workerId))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
         if (task.isCompleted()) throw new IllegalStateException("Completed tasks cannot be submitted.");
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
         task.setStatus(TaskStatus.SUBMITTED);
         task.setCompletionNote(request.notes());
         task.setSubmissionUrl(request.submissionUrl());
         taskRepo.save(task);
+        taskViewProjector.project(task);
+        taskStatsService.moved(before, task);
+        taskCacheEvictor.evictTask(task);
         return new Response("Task Submitted Successfully", HttpStatus.OK);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response requestExtension(UUID workerId, long taskId, @Valid ExtensionRequest request) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getAssigneeId().equals(workerId))
@@ -182,30 +197,17 @@ public class TaskService {
                 .build();
         task.setExtension(extension);
         taskRepo.save(task);
+        taskViewProjector.project(task);
+        taskCacheEvictor.evictTask(task);
         return new Response("Task Requested Successfully", HttpStatus.OK);
     }
 
     @Cacheable(value = "extensionRequests", key = "#managerId")
     public List<TaskDetails> getAllExtensionRequest(UUID managerId) {
-        List<Task> tasks = taskRepo.findAllByExtension_Status(ExtensionStatus.PENDING, sort)
-                .stream()
-                .filter(t -> t.getManagerId().equals(managerId))
-                .toList();
-        Map<UUID, User> userMap = getUserMapFromTasks(tasks);
-        return tasks.stream()
-                .map(task -> new TaskDetails(task, userMap.get(task.getAssigneeId()), userMap.get(task.getManagerId())))
-                .toList();
+        return toDetails(taskViewRepo.findAllByManagerIdAndExtensionStatus(managerId, ExtensionStatus.PENDING, sort));
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response approveExtensionRequest(UUID managerId, Long taskId) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getManagerId().equals(managerId))
@@ -214,23 +216,19 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("No extension request found."));
         if (extension.getStatus() == ExtensionStatus.APPROVED)
             throw new IllegalStateException("Already approved.");
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
         extension.setStatus(ExtensionStatus.APPROVED);
         task.setDueDate(extension.getRequestedDueDate());
         taskRepo.save(task);
-        notificationProducer.sendNotification(new Notifications(
+        taskViewProjector.project(task);
+        taskStatsService.moved(before, task);
+        taskCacheEvictor.evictTask(task);
+        notificationOutbox.enqueue(new Notifications(
                 "Task deadline Extension approved: " + task.getTitle(), task.getAssigneeId(), false));
         return new Response("Task extension approved successfully", HttpStatus.OK);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response rejectExtensionRequest(UUID managerId, Long taskId, String reason) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getManagerId().equals(managerId))
@@ -242,32 +240,19 @@ public class TaskService {
         extension.setStatus(ExtensionStatus.REJECTED);
         extension.setRejectReason(reason);
         taskRepo.save(task);
-        notificationProducer.sendNotification(new Notifications(
+        taskViewProjector.project(task);
+        taskCacheEvictor.evictTask(task);
+        notificationOutbox.enqueue(new Notifications(
                 "Task deadline Extension rejected: " + task.getTitle(), task.getAssigneeId(), false));
         return new Response("Task extension rejected successfully", HttpStatus.OK);
     }
 
     @Cacheable(value = "submittedTasks", key = "#managerId")
     public List<TaskDetails> getAllSubmittedTasks(UUID managerId) {
-        List<Task> tasks = taskRepo.findAllByStatus(TaskStatus.SUBMITTED, sort)
-                .stream()
-                .filter(t -> t.getManagerId().equals(managerId))
-                .toList();
-        Map<UUID, User> userMap = getUserMapFromTasks(tasks);
-        return tasks.stream()
-                .map(task -> new TaskDetails(task, userMap.get(task.getAssigneeId()), userMap.get(task.getManagerId())))
-                .toList();
+        return toDetails(taskViewRepo.findAllByManagerIdAndStatus(managerId, TaskStatus.SUBMITTED, sort));
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
     public Response approveSubmittedTask(UUID managerId, Long taskId) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getManagerId().equals(managerId))
@@ -276,46 +261,127 @@ public class TaskService {
             throw new IllegalStateException("Already completed.");
         if (task.getStatus() != TaskStatus.SUBMITTED)
             throw new IllegalStateException("Not submitted yet.");
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
         task.setStatus(TaskStatus.COMPLETED);
         task.setCompletedAt(LocalDateTime.now());
         taskRepo.save(task);
-        notificationProducer.sendNotification(new Notifications(
+        taskViewProjector.project(task);
+        taskStatsService.moved(before, task);
+        taskCacheEvictor.evictTask(task);
+        notificationOutbox.enqueue(new Notifications(
                 "Task completion approved: " + task.getTitle(), task.getAssigneeId(), false));
         return new Response("Task approved successfully", HttpStatus.OK);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "allTasks", allEntries = true),
-            @CacheEvict(value = "managerTasks", allEntries = true),
-            @CacheEvict(value = "workerTasks", allEntries = true),
-            @CacheEvict(value = "taskDetail", allEntries = true),
-            @CacheEvict(value = "extensionRequests", allEntries = true),
-            @CacheEvict(value = "submittedTasks", allEntries = true),
-    })
+    public Response approveSubmittedTasks(UUID managerId, Set<Long> taskIds) {
+        List<Task> tasks = findManagedTasks(managerId, taskIds);
+        Map<Long, TaskStatsService.Entry> before = taskStatsService.snapshot(tasks);
+        LocalDateTime completedAt = LocalDateTime.now();
+        for (Task task : tasks) {
+            if (task.getStatus() != TaskStatus.SUBMITTED)
+                throw new IllegalStateException("Task " + task.getId() + " is not submitted.");
+            task.setStatus(TaskStatus.COMPLETED);
+            task.setCompletedAt(completedAt);
+        }
+        taskRepo.saveAll(tasks);
+        taskViewProjector.project(tasks);
+        taskStatsService.moved(before, tasks);
+        taskCacheEvictor.evictTasks(tasks, Map.of());
+        notificationOutbox.enqueueAll(tasks.stream()
+                .map(task -> new Notifications("Task completion approved: " + task.getTitle(), task.getAssigneeId(), false))
+                .toList());
+        return new Response(tasks.size() + " Tasks approved successfully", HttpStatus.OK);
+    }
+
+    @Transactional
     public Response rejectSubmittedTask(UUID managerId, Long taskId, String reason) {
         Task task = taskRepo.findById(taskId)
                 .filter(t -> t.getManagerId().equals(managerId))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         if (task.getStatus() != TaskStatus.SUBMITTED)
             throw new IllegalStateException("Only submitted tasks can be rejected.");
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
         task.setStatus(TaskStatus.REASSIGNED);
         task.setRejectionNote(reason);
         taskRepo.save(task);
-        notificationProducer.sendNotification(new Notifications(
+        taskViewProjector.project(task);
+        taskStatsService.moved(before, task);
+        taskCacheEvictor.evictTask(task);
+        notificationOutbox.enqueue(new Notifications(
                 "Task rejected and reassigned: " + task.getTitle(), task.getAssigneeId(), false));
         return new Response("Task rejected and reassigned: " + task.getTitle(), HttpStatus.OK);
     }
 
+    public TaskStatsSummary getStats(UUID managerId) {
+        return taskStatsService.getStats(managerId);
+    }
+
+    public TaskPage searchTasks(UUID userId, Role role, TaskSearchRequest request) {
+        String query = request.query();
+        int size = request.pageSize();
+        TaskSearchCursor after = TaskSearchCursor.decode(request.cursor());
+        List<TaskViewSearchRepo.SearchHit> hits = switch (role) {
+            case ADMIN -> taskViewRepo.search(query, null, null, after, size + 1);
+            case MANAGER -> taskViewRepo.search(query, userId, null, after, size + 1);
+            case WORKER -> taskViewRepo.search(query, null, userId, after, size + 1);
+        };
+        boolean hasMore = hits.size() > size;
+        List<TaskViewSearchRepo.SearchHit> page = hasMore ? hits.subList(0, size) : hits;
+        String nextCursor = hasMore
+                ? new TaskSearchCursor(page.getLast().rank(), page.getLast().task().getId()).encode()
+                : null;
+        return new TaskPage(toDetails(page.stream().map(TaskViewSearchRepo.SearchHit::task).toList()), nextCursor, hasMore);
+    }
+
+    private TaskPage loadPage(Specification<TaskView> scope, TaskPageRequest request) {
+        int size = request.pageSize();
+        Specification<TaskView> spec = scope
+                .and(TaskSpecifications.hasStatus(request.status()))
+                .and(TaskSpecifications.hasPriority(request.priority()))
+                .and(TaskSpecifications.after(TaskCursor.decode(request.cursor())));
+        List<TaskView> rows = taskViewRepo.findBy(spec, query -> query.sortBy(pageSort).limit(size + 1).all());
+        boolean hasMore = rows.size() > size;
+        List<TaskView> tasks = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? TaskCursor.of(tasks.getLast()).encode() : null;
+        return new TaskPage(toDetails(tasks), nextCursor, hasMore);
+    }
+
+    private Task newTask(UUID managerId, TaskRequest request) {
+        return Task.builder()
+                .title(request.title())
+                .description(request.description())
+                .assigneeId(request.assigneeId())
+                .managerId(managerId)
+                .dueDate(request.dueDate())
+                .priority(request.priority())
+                .build();
+    }
+
+    private void applyChanges(Task task, TaskRequest request) {
+        task.setTitle(request.title());
+        task.setDescription(request.description());
+        task.setAssigneeId(request.assigneeId());
+        task.setPriority(request.priority());
+    }
+
+    private List<Task> findManagedTasks(UUID managerId, Set<Long> taskIds) {
+        List<Task> tasks = taskRepo.findAllById(taskIds).stream()
+                .filter(task -> task.getManagerId().equals(managerId))
+                .toList();
+        if (tasks.size() < taskIds.size()) {
+            Set<Long> missing = new TreeSet<>(taskIds);
+            tasks.forEach(task -> missing.remove(task.getId()));
+            throw new ResourceNotFoundException("Tasks not found with IDs: " + missing);
+        }
+        return tasks;
+    }
+
     private boolean isUserAuthorized(Task task, UUID userId) {
         return task.getAssigneeId().equals(userId) || task.getManagerId().equals(userId);
     }
 
-    private Map<UUID, User> getUserMapFromTasks(List<Task> tasks) {
-        if (tasks.isEmpty()) return Collections.emptyMap();
-        Set<UUID> userIds = tasks.stream()
-                .flatMap(t -> Stream.of(t.getAssigneeId(), t.getManagerId()))
-                .collect(Collectors.toSet());
-        return userService.getUsersByIds(userIds);
+    private List<TaskDetails> toDetails(List<TaskView> views) {
+        return views.stream().map(TaskDetails::new).toList();
     }
 }
\ No newline at end of file
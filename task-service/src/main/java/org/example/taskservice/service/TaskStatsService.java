@@ -0,0 +1,152 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.dto.TaskStatsCount;
+import org.example.taskservice.dto.TaskStatsSummary;
+import org.example.taskservice.dto.TaskStatsSummary.Counts;
+import org.example.taskservice.dto.TaskStatus;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskStats;
+import org.example.taskservice.model.TaskStatsKey;
+import org.example.taskservice.repository.TaskRepo;
+import org.example.taskservice.repository.TaskStatsRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsService {
+
+    private static final String RECONCILE_JOB = "task-stats-reconcile";
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.ASSIGNED, TaskStatus.REASSIGNED);
+
+    private final TaskStatsRepo taskStatsRepo;
+    private final TaskRepo taskRepo;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${task-stats.bootstrap-enabled:true}")
+    private boolean bootstrapEnabled;
+
+    public TaskStatsSummary getStats(UUID managerId) {
+        Map<Priority, Counts> byPriority = new EnumMap<>(Priority.class);
+        Arrays.stream(Priority.values()).forEach(priority -> byPriority.put(priority, Counts.EMPTY));
+        taskStatsRepo.findAllByIdManagerId(managerId).forEach(row ->
+                byPriority.merge(row.getId().getPriority(), toCounts(row), Counts::plus));
+        Counts total = byPriority.values().stream().reduce(Counts.EMPTY, Counts::plus);
+        return new TaskStatsSummary(total, byPriority);
+    }
+
+    public Entry snapshot(Task task) {
+        return Entry.of(task);
+    }
+
+    public Map<Long, Entry> snapshot(Collection<Task> tasks) {
+        return tasks.stream().collect(Collectors.toMap(Task::getId, Entry::of));
+    }
+
+    public void added(Collection<Task> tasks) {
+        apply(List.of(), tasks.stream().map(Entry::of).toList());
+    }
+
+    public void removed(Task task) {
+        apply(List.of(Entry.of(task)), List.of());
+    }
+
+    public void moved(Entry before, Task after) {
+        apply(List.of(before), List.of(Entry.of(after)));
+    }
+
+    public void moved(Map<Long, Entry> before, Collection<Task> after) {
+        apply(before.values(), after.stream().map(Entry::of).toList());
+    }
+
+    // Called inside the TaskService transaction, so the counters commit or roll back with the task change itself.
+    private void apply(Collection<Entry> removed, Collection<Entry> added) {
+        Map<TaskStatsKey, long[]> deltas = new HashMap<>();
+        removed.forEach(entry -> accumulate(deltas, entry, -1));
+        added.forEach(entry -> accumulate(deltas, entry, 1));
+        deltas.forEach((key, delta) -> {
+            if (delta[0] == 0 && delta[1] == 0) return;
+            taskStatsRepo.applyDelta(key.getManagerId(), key.getStatus().name(), key.getPriority().name(), delta[0], delta[1]);
+        });
+    }
+
+    private void accumulate(Map<TaskStatsKey, long[]> deltas, Entry entry, int sign) {
+        long[] delta = deltas.computeIfAbsent(entry.key(), key -> new long[2]);
+        delta[0] += sign;
+        if (entry.overdue()) delta[1] += sign;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (bootstrapEnabled && taskStatsRepo.count() == 0) Thread.startVirtualThread(this::scheduleReconcile);
+    }
+
+    // Tasks turn overdue by the calendar rather than by a transition, so the default run sits just after midnight.
+    @Scheduled(cron = "${task-stats.reconcile-cron:0 5 0 * * *}")
+    public void scheduleReconcile() {
+        scheduledJobRunner.runLocked(RECONCILE_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), this::reconcile);
+    }
+
+    void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskStatsRepo.lockForReconcile();
+            Map<TaskStatsKey, TaskStats> current = taskStatsRepo.findAll().stream()
+                    .collect(Collectors.toMap(TaskStats::getId, Function.identity()));
+            List<TaskStats> recounted = taskRepo.countStats(OPEN_STATUSES, LocalDate.now()).stream()
+                    .map(count -> TaskStats.builder()
+                            .id(new TaskStatsKey(count.managerId(), count.status(), count.priority()))
+                            .taskCount(count.taskCount())
+                            .overdueCount(count.overdueCount())
+                            .build())
+                    .toList();
+            long drifted = recounted.stream().filter(row -> !matches(current.remove(row.getId()), row)).count()
+                    + current.values().stream().filter(row -> row.getTaskCount() != 0 || row.getOverdueCount() != 0).count();
+            taskStatsRepo.deleteAllRows();
+            taskStatsRepo.saveAll(recounted);
+            Counter.builder("task.stats.drift").register(meterRegistry).increment(drifted);
+            log.info("📈 Reconciled task stats: {} rows, {} corrected", recounted.size(), drifted);
+        });
+    }
+
+    private boolean matches(TaskStats existing, TaskStats recounted) {
+        return existing != null
+                && existing.getTaskCount() == recounted.getTaskCount()
+                && existing.getOverdueCount() == recounted.getOverdueCount();
+    }
+
+    // Reads clamp at zero: between midnight and the reconciliation run a task can leave the overdue bucket it never entered.
+    private Counts toCounts(TaskStats row) {
+        long tasks = Math.max(0, row.getTaskCount());
+        long overdue = Math.max(0, row.getOverdueCount());
+        return switch (row.getId().getStatus()) {
+            case ASSIGNED, REASSIGNED -> new Counts(tasks, 0, overdue, 0);
+            case SUBMITTED -> new Counts(0, tasks, 0, 0);
+            case COMPLETED -> new Counts(0, 0, 0, tasks);
+        };
+    }
+
+    public record Entry(TaskStatsKey key, boolean overdue) {
+        static Entry of(Task task) {
+            return new Entry(new TaskStatsKey(task.getManagerId(), task.getStatus(), task.getPriority()),
+                    OPEN_STATUSES.contains(task.getStatus()) && task.isOverDue());
+        }
+    }
+}
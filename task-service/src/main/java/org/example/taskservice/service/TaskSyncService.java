@@ -0,0 +1,87 @@
+package org.example.taskservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.TaskChanges;
+import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskSyncWatermark;
+import org.example.taskservice.model.TaskView;
+import org.example.taskservice.repository.TaskTombstoneRepo;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSyncService {
+
+    private static final String PURGE_JOB = "task-tombstone-purge";
+
+    private final TaskViewRepo taskViewRepo;
+    private final TaskTombstoneRepo taskTombstoneRepo;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Value("${task-sync.page-size:500}")
+    private int pageSize;
+
+    // Timestamps are taken before commit, so only changes older than this are treated as settled and handed out.
+    @Value("${task-sync.settle-window:5s}")
+    private Duration settleWindow;
+
+    @Value("${task-sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    public TaskChanges getManagerChanges(UUID managerId, String since) {
+        return getChanges("manager_id", managerId, since);
+    }
+
+    public TaskChanges getWorkerChanges(UUID workerId, String since) {
+        return getChanges("assignee_id", workerId, since);
+    }
+
+    private TaskChanges getChanges(String scopeColumn, UUID scopeId, String since) {
+        TaskSyncWatermark from = TaskSyncWatermark.decode(since);
+        LocalDateTime now = LocalDateTime.now();
+        if (since != null && !since.isBlank() && from.changedAt().isBefore(now.minus(tombstoneRetention)))
+            throw new IllegalArgumentException("Sync watermark is older than the tombstone retention; reload the full task list");
+        LocalDateTime until = now.minus(settleWindow);
+        if (!from.changedAt().isBefore(until)) return new TaskChanges(List.of(), List.of(), from.encode(), false);
+
+        List<TaskSyncWatermark> changes = taskViewRepo.findChanges(scopeColumn, scopeId, from, until, pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        List<TaskSyncWatermark> page = hasMore ? changes.subList(0, pageSize) : changes;
+        TaskSyncWatermark next = hasMore ? page.getLast() : TaskSyncWatermark.endOf(until);
+
+        // The stream is time ordered, so within one batch only a task's last event matters.
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        page.forEach(change -> latest.put(change.taskId(), change.removed()));
+        List<Long> removed = latest.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> upsertedIds = latest.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList();
+        Map<Long, TaskView> views = taskViewRepo.findAllById(upsertedIds).stream()
+                .collect(Collectors.toMap(TaskView::getId, Function.identity()));
+        List<TaskDetails> upserted = upsertedIds.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(TaskDetails::new)
+                .toList();
+        return new TaskChanges(upserted, removed, next.encode(), hasMore);
+    }
+
+    @Scheduled(cron = "${task-sync.tombstone-purge-cron:0 45 2 * * *}")
+    public void schedulePurge() {
+        scheduledJobRunner.runLocked(PURGE_JOB, Duration.ofMinutes(10), Duration.ofMinutes(1), this::purgeTombstones);
+    }
+
+    void purgeTombstones() {
+        int purged = taskTombstoneRepo.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) log.info("🪦 Purged {} task tombstones past retention", purged);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.taskservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.User;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskTombstone;
+import org.example.taskservice.model.TaskView;
+import org.example.taskservice.repository.TaskRepo;
+import org.example.taskservice.repository.TaskTombstoneRepo;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskViewProjector {
+
+    private static final String BACKFILL_JOB = "task-view-backfill";
+
+    private final TaskViewRepo taskViewRepo;
+    private final TaskTombstoneRepo taskTombstoneRepo;
+    private final TaskRepo taskRepo;
+    private final UserService userService;
+    private final TaskCacheEvictor taskCacheEvictor;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${task-view.backfill-enabled:true}")
+    private boolean backfillEnabled;
+
+    @Value("${task-view.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    public void project(Task task) {
+        project(List.of(task));
+    }
+
+    public void project(List<Task> tasks) {
+        if (tasks.isEmpty()) return;
+        Set<UUID> userIds = tasks.stream()
+                .flatMap(t -> Stream.of(t.getAssigneeId(), t.getManagerId()))
+                .collect(Collectors.toSet());
+        // Local lookups only: a user not projected yet is filled in by refreshUser once its event arrives.
+        Map<UUID, User> users = userService.getLocalUsersByIds(userIds);
+        Map<Long, UUID> existingAssignees = taskViewRepo.findAllById(tasks.stream().map(Task::getId).toList()).stream()
+                .collect(Collectors.toMap(TaskView::getId, TaskView::getAssigneeId));
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskTombstone> reassigned = tasks.stream()
+                .filter(task -> existingAssignees.containsKey(task.getId()))
+                .filter(task -> !existingAssignees.get(task.getId()).equals(task.getAssigneeId()))
+                .map(task -> TaskTombstone.builder()
+                        .taskId(task.getId())
+                        .assigneeId(existingAssignees.get(task.getId()))
+                        .removedAt(now)
+                        .build())
+                .toList();
+        if (!reassigned.isEmpty()) taskTombstoneRepo.saveAll(reassigned);
+        taskViewRepo.saveAll(tasks.stream()
+                .map(task -> {
+                    TaskView view = TaskView.of(task, users.get(task.getAssigneeId()), users.get(task.getManagerId()));
+                    view.setNewRow(!existingAssignees.containsKey(task.getId()));
+                    return view;
+                })
+                .toList());
+    }
+
+    public void remove(Task task) {
+        taskViewRepo.deleteById(task.getId());
+        taskTombstoneRepo.save(TaskTombstone.builder()
+                .taskId(task.getId())
+                .managerId(task.getManagerId())
+                .assigneeId(task.getAssigneeId())
+                .removedAt(LocalDateTime.now())
+                .build());
+    }
+
+    // The list caches and page generations serve these names too, so every scope the user appears in is evicted.
+    public void refreshUser(User user) {
+        List<TaskView> stale = taskViewRepo.findStaleForUser(user.id(), user.name(), user.email(), user.role());
+        if (stale.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        int rows = taskViewRepo.updateAssignee(user.id(), user.name(), user.email(), user.role(), now)
+                + taskViewRepo.updateManager(user.id(), user.name(), user.email(), user.role(), now);
+        taskCacheEvictor.evictViews(stale);
+        log.debug("👥 Refreshed user {} on {} task view rows", user.id(), rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillEnabled) return;
+        Thread.startVirtualThread(() -> scheduledJobRunner.runLocked(BACKFILL_JOB,
+                Duration.ofMinutes(30), Duration.ofMinutes(1), this::projectMissing));
+    }
+
+    void projectMissing() {
+        long afterId = 0;
+        int total = 0;
+        List<Task> batch;
+        do {
+            long from = afterId;
+            batch = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                List<Task> tasks = taskRepo.findUnprojected(from, Limit.of(backfillBatchSize));
+                project(tasks);
+                return tasks;
+            }));
+            total += batch.size();
+            if (!batch.isEmpty()) afterId = batch.getLast().getId();
+        } while (batch.size() == backfillBatchSize);
+        if (total > 0) log.info("🧱 Backfilled {} tasks into the task view", total);
+    }
+}
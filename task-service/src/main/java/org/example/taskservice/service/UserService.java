@@ -1,34 +1,101 @@
 package org.example.taskservice.service;
 
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
-import lombok.AllArgsConstructor;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.example.taskservice.client.UserClient;
 import org.example.taskservice.dto.User;
+import org.example.taskservice.repository.UserProjectionRepo;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 
 @Service
-@AllArgsConstructor
 @Slf4j
 public class UserService {
 
-    private final UserClient userClient;
+    private final UserProjectionRepo userProjectionRepo;
+    private final CoalescingLoader<UUID, User> coalescingLoader;
+    private final LoadingCache<UUID, User> users;
+
+    public UserService(UserLoader userLoader,
+                       UserProjectionRepo userProjectionRepo,
+                       MeterRegistry meterRegistry,
+                       @Value("${user-cache.maximum-size:10000}") long maximumSize,
+                       @Value("${user-cache.refresh-after-write:5m}") Duration refreshAfterWrite,
+                       @Value("${user-cache.expire-after-write:1h}") Duration expireAfterWrite,
+                       @Value("${user-batch.window:10ms}") Duration batchWindow,
+                       @Value("${user-batch.max-size:200}") int maxBatchSize,
+                       @Value("${user-batch.timeout:15s}") Duration batchTimeout) {
+        this.userProjectionRepo = userProjectionRepo;
+        this.coalescingLoader = new CoalescingLoader<>("userDirectory", userLoader::loadUsers,
+                batchWindow, maxBatchSize, batchTimeout, meterRegistry);
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(new UserDirectoryLoader(userProjectionRepo, coalescingLoader));
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "userDirectory");
+    }
 
-    @CircuitBreaker(name = "userServiceCB", fallbackMethod = "getFallbackUsers")
-    @Retry(name = "userServiceRetry", fallbackMethod = "getFallbackUsers")
-    @RateLimiter(name = "userServiceRateLimiter", fallbackMethod = "getFallbackUsers")
     public Map<UUID, User> getUsersByIds(Set<UUID> ids) {
-        return userClient.getUsersByIds(ids);
+        if (ids.isEmpty()) return Collections.emptyMap();
+        return users.getAll(ids);
+    }
+
+    // Never calls auth-service, so it is safe inside a write transaction; users not known locally are left out.
+    public Map<UUID, User> getLocalUsersByIds(Set<UUID> ids) {
+        if (ids.isEmpty()) return Collections.emptyMap();
+        Map<UUID, User> result = new HashMap<>(users.getAllPresent(ids));
+        if (result.size() < ids.size()) {
+            Set<UUID> missing = new HashSet<>(ids);
+            missing.removeAll(result.keySet());
+            userProjectionRepo.findAllById(missing).forEach(projection -> result.put(projection.getId(), projection.toUser()));
+        }
+        return result;
+    }
+
+    public void evict(UUID id) {
+        users.invalidate(id);
     }
 
-    @SuppressWarnings("unused")
-    public Map<UUID, User> getFallbackUsers(Set<UUID> ids, Throwable t) {
-        log.warn("🛑 [Fallback Triggered] User service unavailable for {} users. Reason: {}", ids.size(), t.getMessage());
-        return Collections.emptyMap();
+    @PreDestroy
+    public void shutdown() {
+        coalescingLoader.close();
     }
 
+    // Reads the local projection first; only users it has not seen yet go to auth-service.
+    private record UserDirectoryLoader(UserProjectionRepo projections,
+                                       CoalescingLoader<UUID, User> remote) implements CacheLoader<UUID, User> {
+
+        @Override
+        public User load(UUID id) {
+            return loadAll(Set.of(id)).get(id);
+        }
+
+        @Override
+        public Map<UUID, User> loadAll(Set<? extends UUID> ids) {
+            Map<UUID, User> result = new HashMap<>();
+            projections.findAllById(Set.copyOf(ids)).forEach(projection -> result.put(projection.getId(), projection.toUser()));
+            if (result.size() < ids.size()) {
+                Set<UUID> missing = new HashSet<>(ids);
+                missing.removeAll(result.keySet());
+                result.putAll(remote.loadAll(missing));
+            }
+            return result;
+        }
+
+        // A failed refresh falls back to an empty map; keep serving the last known user instead of dropping it.
+        @Override
+        public User reload(UUID id, User oldValue) {
+            User user = load(id);
+            return user != null ? user : oldValue;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package org.example.taskservice.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// JDK serialization (the current format) vs Smile vs Smile+deflate on a single task and a 50-task list.
+// Opt-in: mvn test -Dtest=CacheCodecBenchmarkTest -Dcodec.benchmark=true
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CacheCodecBenchmarkTest {
+
+    @Param({"jdk", "smile", "smile-deflate"})
+    public String codec;
+
+    @Param({"task", "list"})
+    public String payload;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        value = "task".equals(payload) ? task(1L) : IntStream.rangeClosed(1, 50).mapToObj(i -> task((long) i)).toList();
+        serializer = serializer(codec, payload);
+        encoded = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "codec.benchmark", matches = "true")
+    void run() throws Exception {
+        for (String codec : List.of("jdk", "smile", "smile-deflate")) {
+            log.info("📏 {} bytes per entry: task={}, list={}", codec,
+                    serializer(codec, "task").serialize(task(1L)).length,
+                    serializer(codec, "list").serialize(IntStream.rangeClosed(1, 50).mapToObj(i -> task((long) i)).toList()).length);
+        }
+        // forks(0): surefire's isolated classpath is not visible to a forked JMH worker
+        new Runner(new OptionsBuilder()
+                .include(CacheCodecBenchmarkTest.class.getName())
+                .forks(0)
+                .build()).run();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisSerializer<Object> serializer(String codec, String payload) {
+        if ("jdk".equals(codec)) return (RedisSerializer<Object>) (RedisSerializer<?>) new JdkSerializationRedisSerializer();
+        CompactCacheCodec compact = new CompactCacheCodec("smile".equals(codec) ? Integer.MAX_VALUE : 0);
+        JavaType type = "task".equals(payload)
+                ? compact.typeFactory().constructType(TaskDetails.class)
+                : compact.typeFactory().constructCollectionType(List.class, TaskDetails.class);
+        return compact.serializer(type);
+    }
+
+    private static TaskDetails task(Long id) {
+        User manager = new User(UUID.randomUUID(), "manager@example.com", "Manager", Role.MANAGER);
+        User worker = new User(UUID.randomUUID(), "worker" + id + "@example.com", "Worker " + id, Role.WORKER);
+        return new TaskDetails(id, "Task " + id, "Prepare the quarterly report and share it with the team, item " + id,
+                worker, manager, Priority.HIGH, LocalDate.of(2026, 1, 15), TaskStatus.ASSIGNED, null, null, null,
+                Map.of("reason", "Waiting on finance", "status", "PENDING"));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.taskservice.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.taskservice.model.OutboxEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OutboxEventRepoTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private OutboxEventRepo outboxEventRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldSkipPastKeysBackingOffEvenWhenTheyFillTheBatch() {
+        persist("burst", NOW.plusMinutes(5), null);
+        for (int i = 0; i < BATCH_SIZE * 2; i++) persist("burst", null, null);
+        persist("poison", null, NOW.minusMinutes(1));
+        persist("poison", null, null);
+        persist("retried", NOW.minusSeconds(1), null);
+        persist("retried", null, null);
+        persist("fresh", null, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<OutboxEvent> due = outboxEventRepo.findDue(NOW, Limit.of(BATCH_SIZE));
+
+        assertThat(due).extracting(OutboxEvent::getMessageKey).containsExactly("poison", "retried", "retried", "fresh");
+        assertThat(due).extracting(OutboxEvent::getId).isSorted();
+    }
+
+    private void persist(String key, LocalDateTime nextAttemptAt, LocalDateTime parkedAt) {
+        entityManager.persist(OutboxEvent.builder()
+                .topic("notifications")
+                .messageKey(key)
+                .payload("{}")
+                .createdAt(NOW)
+                .nextAttemptAt(nextAttemptAt)
+                .parkedAt(parkedAt)
+                .build());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.taskservice.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.model.Task;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compares the per-task create path (one transaction per task) with the bulk path (one batched transaction).
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskBatchInsertBenchmarkTest {
+
+    private static final int TASKS = 500;
+
+    @Autowired
+    private TaskRepo taskRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void bulkInsertShouldUseFarFewerStatementsThanPerTaskPath() {
+        UUID managerId = UUID.randomUUID();
+
+        statistics.clear();
+        long perTaskStart = System.nanoTime();
+        tasks(managerId).forEach(task -> transactionTemplate.executeWithoutResult(status -> taskRepo.save(task)));
+        long perTaskNanos = System.nanoTime() - perTaskStart;
+        long perTaskStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long bulkStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> taskRepo.saveAll(tasks(managerId)));
+        long bulkNanos = System.nanoTime() - bulkStart;
+        long bulkStatements = statistics.getPrepareStatementCount();
+
+        log.info("📊 {} tasks - per-task: {} statements in {} ms, bulk: {} statements in {} ms",
+                TASKS, perTaskStatements, perTaskNanos / 1_000_000, bulkStatements, bulkNanos / 1_000_000);
+        assertThat(taskRepo.count()).isEqualTo(2L * TASKS);
+        assertThat(perTaskStatements).isGreaterThanOrEqualTo(TASKS);
+        assertThat(bulkStatements).isLessThanOrEqualTo(TASKS / 50 * 2 + 2);
+    }
+
+    private List<Task> tasks(UUID managerId) {
+        return IntStream.range(0, TASKS)
+                .mapToObj(i -> Task.builder()
+                        .title("Task " + i)
+                        .description("Description")
+                        .assigneeId(UUID.randomUUID())
+                        .managerId(managerId)
+                        .priority(Priority.MEDIUM)
+                        .dueDate(LocalDate.now().plusDays(i % 30))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.taskservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskExtension;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskRepoTest {
+
+    private static final int TASKS = 10;
+
+    @Autowired
+    private TaskRepo taskRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UUID managerId = UUID.randomUUID();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = Task.builder()
+                    .title("Task " + i)
+                    .description("Description")
+                    .assigneeId(UUID.randomUUID())
+                    .managerId(managerId)
+                    .priority(Priority.MEDIUM)
+                    .dueDate(LocalDate.now().minusDays(i))
+                    .build();
+            if (i % 2 == 0) {
+                task.setExtension(TaskExtension.builder()
+                        .task(task)
+                        .reason("Blocked")
+                        .requestedDueDate(LocalDate.now().plusDays(i))
+                        .build());
+            }
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldLoadTasksByIdWithExtensionsInOneStatement() {
+        List<Long> ids = taskRepo.findAll(Sort.by("id")).stream().map(Task::getId).toList();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Task> tasks = taskRepo.findAllById(ids);
+        long withExtension = tasks.stream().filter(task -> task.getExtension() != null).count();
+
+        assertThat(tasks).hasSize(TASKS);
+        assertThat(withExtension).isEqualTo(TASKS / 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBackfillBatchInOneStatement() {
+        List<Task> tasks = taskRepo.findUnprojected(0, Limit.of(TASKS));
+        tasks.forEach(task -> {
+            if (task.getExtension() != null) task.getExtension().getReason();
+        });
+
+        assertThat(tasks).hasSize(TASKS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLoadTaskWithExtensionInOneStatement() {
+        Long id = taskRepo.findAll(Sort.by("id")).getFirst().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Task task = taskRepo.findById(id).orElseThrow();
+
+        assertThat(task.getExtension()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
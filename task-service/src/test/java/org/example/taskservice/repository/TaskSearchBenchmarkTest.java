@@ -0,0 +1,142 @@
+package org.example.taskservice.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.taskservice.configuration.TaskSearchSchema;
+import org.example.taskservice.dto.TaskSearchCursor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Full-text search needs a real Postgres; run with -Dsearch.benchmark.url=jdbc:postgresql://localhost:5432/task
+// (plus search.benchmark.username / password / rows). Everything happens in a scratch schema that is dropped afterwards.
+@Slf4j
+@EnabledIfSystemProperty(named = "search.benchmark.url", matches = ".+")
+class TaskSearchBenchmarkTest {
+
+    private static final String SCHEMA = "task_search_bench";
+    private static final int RUNS = 50;
+    private static final String[] WORDS = {
+            "invoice", "migration", "deploy", "kafka", "report", "audit", "payroll", "onboarding", "backup", "review",
+            "database", "frontend", "security", "budget", "schedule", "customer", "release", "incident", "metrics", "cache"
+    };
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbc;
+    private static NamedParameterJdbcTemplate named;
+
+    @BeforeAll
+    static void seed() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("search.benchmark.url"),
+                System.getProperty("search.benchmark.username", "postgres"),
+                System.getProperty("search.benchmark.password", "root"),
+                true);
+        jdbc = new JdbcTemplate(dataSource);
+        named = new NamedParameterJdbcTemplate(jdbc);
+        int rows = Integer.getInteger("search.benchmark.rows", 1_000_000);
+
+        jdbc.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbc.execute("CREATE SCHEMA " + SCHEMA);
+        jdbc.execute("SET search_path TO " + SCHEMA);
+        jdbc.execute("""
+                CREATE TABLE task_view (
+                    id BIGINT PRIMARY KEY,
+                    title VARCHAR(255) NOT NULL,
+                    description TEXT NOT NULL,
+                    manager_id UUID NOT NULL,
+                    assignee_id UUID NOT NULL
+                )
+                """);
+        long seedStart = System.nanoTime();
+        jdbc.update("""
+                INSERT INTO task_view (id, title, description, manager_id, assignee_id)
+                SELECT g,
+                       w[1 + g % 20] || ' ' || w[1 + (g / 20) % 20] || ' task ' || g,
+                       'Prepare the ' || w[1 + (g / 7) % 20] || ' and ' || w[1 + (g / 13) % 20]
+                           || ' notes, then follow up on ' || w[1 + (g / 400) % 20] || ' items.',
+                       CAST(md5('manager-' || g % 1000) AS uuid),
+                       CAST(md5('worker-' || g % 20000) AS uuid)
+                FROM generate_series(1, ?) g, (SELECT CAST(? AS text[]) AS w) words
+                """, rows, "{" + String.join(",", WORDS) + "}");
+        jdbc.execute(TaskSearchSchema.SEARCH_VECTOR_DDL);
+        jdbc.execute(TaskSearchSchema.SEARCH_INDEX_DDL);
+        jdbc.execute("ANALYZE task_view");
+        log.info("📦 Seeded {} task_view rows with search vector in {} ms", rows, (System.nanoTime() - seedStart) / 1_000_000);
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        if (jdbc == null) return;
+        jdbc.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void adminSearchAcrossAllTasks() {
+        report("admin", "invoice audit", null, null);
+    }
+
+    @Test
+    void managerSearchWithinManagedTasks() {
+        report("manager", "deploy release", uuid("manager-1"), null);
+    }
+
+    @Test
+    void workerSearchWithinAssignedTasks() {
+        report("worker", "backup", null, uuid("worker-1"));
+    }
+
+    @Test
+    void secondPageContinuesBelowTheCursor() {
+        List<Map<String, Object>> first = search("kafka", uuid("manager-7"), null, null, 20);
+        assertThat(first).hasSize(20);
+        Map<String, Object> last = first.getLast();
+        TaskSearchCursor cursor = new TaskSearchCursor(((Number) last.get("rank")).floatValue(), ((Number) last.get("id")).longValue());
+
+        List<Map<String, Object>> second = search("kafka", uuid("manager-7"), null, cursor, 20);
+
+        assertThat(second).extracting(row -> row.get("id")).doesNotContainAnyElementsOf(first.stream().map(row -> row.get("id")).toList());
+    }
+
+    private void report(String scope, String query, UUID managerId, UUID assigneeId) {
+        search(query, managerId, assigneeId, null, 20);
+        List<Long> micros = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            List<Map<String, Object>> page = search(query, managerId, assigneeId, null, 21);
+            micros.add((System.nanoTime() - start) / 1_000);
+            assertThat(page).isNotEmpty();
+        }
+        Collections.sort(micros);
+        log.info("📊 {} search '{}' - p50: {} ms, p95: {} ms, max: {} ms", scope, query,
+                micros.get(RUNS / 2) / 1_000.0, micros.get(RUNS * 95 / 100) / 1_000.0, micros.getLast() / 1_000.0);
+    }
+
+    private List<Map<String, Object>> search(String query, UUID managerId, UUID assigneeId, TaskSearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("managerId", managerId)
+                .addValue("assigneeId", assigneeId)
+                .addValue("limit", limit);
+        if (after != null) params.addValue("afterRank", after.rank()).addValue("afterId", after.id());
+        return named.queryForList(
+                TaskViewSearchRepoImpl.searchSql(managerId != null, assigneeId != null, after != null), params);
+    }
+
+    private static UUID uuid(String seed) {
+        return jdbc.queryForObject("SELECT CAST(md5(?) AS uuid)", UUID.class, seed);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.taskservice.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.dto.Role;
+import org.example.taskservice.dto.TaskStatus;
+import org.example.taskservice.dto.TaskSyncWatermark;
+import org.example.taskservice.model.TaskTombstone;
+import org.example.taskservice.model.TaskView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TaskViewChangeRepoTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private TaskViewRepo taskViewRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID workerId = UUID.randomUUID();
+    private final UUID otherWorkerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        view(1L, workerId);
+        view(2L, workerId);
+        view(3L, otherWorkerId);
+        entityManager.persist(TaskTombstone.builder().taskId(3L).assigneeId(workerId).removedAt(T0.plusMinutes(2)).build());
+        entityManager.persist(TaskTombstone.builder().taskId(4L).managerId(managerId).assigneeId(workerId)
+                .removedAt(T0.plusMinutes(3)).build());
+        entityManager.flush();
+        // @UpdateTimestamp stamps "now" on insert; pin the times the test reasons about.
+        touch(1L, T0.plusMinutes(1));
+        touch(2L, T0.plusMinutes(3));
+        touch(3L, T0.plusMinutes(2));
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldMergeUpsertsAndTombstonesInTimeOrder() {
+        List<TaskSyncWatermark> changes = taskViewRepo.findChanges("assignee_id", workerId,
+                TaskSyncWatermark.ORIGIN, T0.plusMinutes(10), 10);
+
+        assertThat(changes).containsExactly(
+                new TaskSyncWatermark(T0.plusMinutes(1), false, 1L),
+                new TaskSyncWatermark(T0.plusMinutes(2), true, 3L),
+                new TaskSyncWatermark(T0.plusMinutes(3), false, 2L),
+                new TaskSyncWatermark(T0.plusMinutes(3), true, 4L));
+    }
+
+    @Test
+    void shouldResumeStrictlyAfterWatermarkAndStopAtUpperBound() {
+        List<TaskSyncWatermark> changes = taskViewRepo.findChanges("assignee_id", workerId,
+                new TaskSyncWatermark(T0.plusMinutes(2), true, 3L), T0.plusMinutes(3), 1);
+
+        assertThat(changes).containsExactly(new TaskSyncWatermark(T0.plusMinutes(3), false, 2L));
+    }
+
+    @Test
+    void shouldScopeManagerChangesToManagerTombstones() {
+        List<TaskSyncWatermark> changes = taskViewRepo.findChanges("manager_id", managerId,
+                new TaskSyncWatermark(T0.plusMinutes(2), false, Long.MAX_VALUE), T0.plusMinutes(10), 10);
+
+        assertThat(changes).extracting(TaskSyncWatermark::taskId).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void shouldOnlyTouchViewsWhoseUserCopyChanged() {
+        LocalDateTime now = T0.plusMinutes(20);
+        assertThat(taskViewRepo.updateAssignee(workerId, "Worker", "worker@example.com", Role.WORKER, now)).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(taskViewRepo.findStaleForUser(workerId, "Worker", "worker@example.com", Role.WORKER)).isEmpty();
+        assertThat(taskViewRepo.updateAssignee(workerId, "Worker", "worker@example.com", Role.WORKER, now.plusMinutes(1))).isZero();
+        assertThat(taskViewRepo.findStaleForUser(workerId, "Worker", "renamed@example.com", Role.WORKER))
+                .extracting(TaskView::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(taskViewRepo.updateAssignee(workerId, "Worker", "renamed@example.com", Role.WORKER, now.plusMinutes(2))).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(taskViewRepo.findById(1L)).get().extracting(TaskView::getLastUpdated).isEqualTo(now.plusMinutes(2));
+    }
+
+    private void view(Long id, UUID assigneeId) {
+        TaskView view = TaskView.builder()
+                .id(id)
+                .newRow(true)
+                .title("Task " + id)
+                .description("Description")
+                .assigneeId(assigneeId)
+                .managerId(managerId)
+                .priority(Priority.MEDIUM)
+                .dueDate(LocalDate.now())
+                .status(TaskStatus.ASSIGNED)
+                .build();
+        entityManager.persist(view);
+    }
+
+    private void touch(Long id, LocalDateTime at) {
+        entityManager.createQuery("UPDATE TaskView v SET v.lastUpdated = :at WHERE v.id = :id")
+                .setParameter("at", at)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingLoaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Set<Integer>> remoteCalls = new CopyOnWriteArrayList<>();
+    private final Function<Set<Integer>, Map<Integer, String>> remote = ids -> {
+        remoteCalls.add(ids);
+        return ids.stream().collect(Collectors.toMap(id -> id, id -> "user-" + id));
+    };
+
+    private CoalescingLoader<Integer, String> loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    @Test
+    void shouldMergeConcurrentLookupsIntoOneRemoteCall() throws Exception {
+        loader = new CoalescingLoader<>("test", remote, Duration.ofMillis(100), 1000, Duration.ofSeconds(5), meterRegistry);
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+
+        List<Future<Map<Integer, String>>> results = callers.invokeAll(List.of(
+                () -> loader.loadAll(Set.of(1, 2)),
+                () -> loader.loadAll(Set.of(2, 3)),
+                () -> loader.loadAll(Set.of(3, 4))));
+        callers.shutdown();
+
+        assertThat(results.get(0).get()).containsOnlyKeys(1, 2);
+        assertThat(results.get(1).get()).containsEntry(3, "user-3");
+        assertThat(results.get(2).get()).containsOnlyKeys(3, 4);
+        assertThat(remoteCalls).hasSize(1);
+        assertThat(remoteCalls.getFirst()).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(meterRegistry.summary("coalescer.batch.size", "loader", "test").max()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldFlushEarlyWhenBatchIsFull() {
+        loader = new CoalescingLoader<>("test", remote, Duration.ofMinutes(1), 2, Duration.ofSeconds(5), meterRegistry);
+
+        Map<Integer, String> result = loader.loadAll(Set.of(1, 2));
+
+        assertThat(result).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    void shouldSplitOversizeLookupIntoCappedBatches() {
+        loader = new CoalescingLoader<>("test", remote, Duration.ofMinutes(1), 100, Duration.ofSeconds(5), meterRegistry);
+        Set<Integer> ids = IntStream.range(0, 5_000).boxed().collect(Collectors.toSet());
+
+        Map<Integer, String> result = loader.loadAll(ids);
+
+        assertThat(result).hasSize(5_000);
+        assertThat(remoteCalls).hasSize(50).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(100));
+        assertThat(meterRegistry.summary("coalescer.batch.size", "loader", "test").max()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldOmitKeysWhenRemoteFails() {
+        loader = new CoalescingLoader<>("test", ids -> {
+            throw new IllegalStateException("down");
+        }, Duration.ofMillis(5), 100, Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(loader.loadAll(Set.of(1))).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.taskservice.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.example.taskservice.cache.CompactCacheCodec;
+import org.example.taskservice.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class CompactCacheCodecTest {
+
+    private final CompactCacheCodec codec = new CompactCacheCodec(1024);
+    private final JavaType taskList = codec.typeFactory().constructCollectionType(List.class, TaskDetails.class);
+
+    @Test
+    void shouldRoundTripTaskListWithoutCompressionBelowThreshold() {
+        RedisSerializer<Object> serializer = codec.serializer(taskList);
+        List<TaskDetails> tasks = List.of(task(1L));
+
+        byte[] bytes = serializer.serialize(tasks);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(tasks);
+    }
+
+    @Test
+    void shouldCompressLargeValuesAndStaySmallerThanJdkFormat() {
+        RedisSerializer<Object> serializer = codec.serializer(taskList);
+        List<TaskDetails> tasks = IntStream.rangeClosed(1, 50).mapToObj(i -> task((long) i)).toList();
+
+        byte[] bytes = serializer.serialize(tasks);
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(tasks);
+
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+        assertThat(bytes.length).isLessThan(jdk.length / 4);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(tasks);
+    }
+
+    @Test
+    void shouldRoundTripPagesAndCachedNulls() {
+        RedisSerializer<Object> serializer = codec.serializer(TaskPage.class);
+        TaskPage page = new TaskPage(List.of(task(7L)), "cursor", true);
+
+        assertThat(serializer.deserialize(serializer.serialize(page))).isEqualTo(page);
+        assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isEqualTo(NullValue.INSTANCE);
+    }
+
+    @Test
+    void shouldTreatLegacyJdkEntriesAsCacheMiss() {
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(List.of(task(1L)));
+
+        assertThat(codec.serializer(taskList).deserialize(legacy)).isNull();
+    }
+
+    @Test
+    void shouldMatchCopiesInOtherServices() throws IOException {
+        Path source = Path.of("src/main/java/org/example/taskservice/cache/CompactCacheCodec.java");
+        List<Path> copies = List.of(
+                Path.of("../auth-service/src/main/java/com/example/authservice/configuration/CompactCacheCodec.java"),
+                Path.of("../comment-service/src/main/java/org/example/commentservice/configuration/CompactCacheCodec.java"));
+        assumeThat(copies).as("sibling services checked out").allMatch(Files::exists);
+
+        for (Path copy : copies) {
+            assertThat(withoutPackage(copy)).as(copy.toString()).isEqualTo(withoutPackage(source));
+        }
+    }
+
+    private static List<String> withoutPackage(Path file) throws IOException {
+        return Files.readAllLines(file).stream().filter(line -> !line.startsWith("package ")).toList();
+    }
+
+    private TaskDetails task(Long id) {
+        User manager = new User(UUID.randomUUID(), "manager@example.com", "Manager", Role.MANAGER);
+        User worker = new User(UUID.randomUUID(), "worker@example.com", "Worker", Role.WORKER);
+        return new TaskDetails(id, "Task " + id, "Prepare the quarterly report for task " + id, worker, manager,
+                Priority.HIGH, LocalDate.of(2026, 1, 15), TaskStatus.ASSIGNED, null, null, null,
+                Map.of("reason", "Blocked", "status", "PENDING"));
+    }
+}
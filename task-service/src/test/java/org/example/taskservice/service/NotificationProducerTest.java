@@ -1,6 +1,10 @@
 package org.example.taskservice.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.example.taskservice.dto.Notifications;
 import org.example.taskservice.kafka.NotificationProducer;
 import org.junit.jupiter.api.AfterEach;
@@ -8,9 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 class NotificationProducerTest {
@@ -21,6 +28,9 @@ class NotificationProducerTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private NotificationProducer notificationProducer;
 
@@ -43,16 +53,17 @@ class NotificationProducerTest {
         Notifications notification = new Notifications("Test Message", recipientId, false);
         String jsonMessage = "{\"message\":\"Test Message\",\"recipientId\":\"" + recipientId + "\",\"read\":false}";
         when(objectMapper.writeValueAsString(notification)).thenReturn(jsonMessage);
+        when(kafkaTemplate.send("notifications", recipientId.toString(), jsonMessage))
+                .thenReturn(CompletableFuture.completedFuture(sendResult(jsonMessage)));
 
-        // Act (test the internal sync method directly)
-        notificationProducer.sendNotification(notification); // uses virtual thread internally
-
-        // Wait briefly to ensure async task completes (not ideal, but sufficient for unit test)
-        Thread.sleep(100); // keep this small and only in test
+        // Act
+        notificationProducer.sendNotification(notification);
 
         // Assert
         verify(objectMapper).writeValueAsString(notification);
         verify(kafkaTemplate).send("notifications", recipientId.toString(), jsonMessage);
+        assertThat(meterRegistry.timer("kafka.producer.send.latency", "topic", "notifications", "result", "success").count())
+                .isEqualTo(1);
     }
 
     @Test
@@ -62,13 +73,30 @@ class NotificationProducerTest {
         when(objectMapper.writeValueAsString(notification)).thenThrow(new RuntimeException("Serialization error"));
 
         // Act
-        notificationProducer.sendNotification(notification); // still calls sync under virtual thread
-
-        // Wait to let async task complete
-        Thread.sleep(100);
+        notificationProducer.sendNotification(notification);
 
         // Assert
         verify(objectMapper).writeValueAsString(notification);
         verify(kafkaTemplate, never()).send(any(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCountFailedDeliveries() {
+        // Arrange
+        when(kafkaTemplate.send("notifications", "key", "payload"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // Act
+        CompletableFuture<SendResult<String, String>> future = notificationProducer.send("notifications", "key", "payload");
+
+        // Assert
+        assertThat(future).isCompletedExceptionally();
+        assertThat(meterRegistry.counter("kafka.producer.send.failures", "topic", "notifications").count()).isEqualTo(1);
+    }
+
+    private SendResult<String, String> sendResult(String payload) {
+        return new SendResult<>(
+                new ProducerRecord<>("notifications", recipientId.toString(), payload),
+                new RecordMetadata(new TopicPartition("notifications", 0), 0, 0, 0, 0, 0));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskservice.kafka.NotificationProducer;
+import org.example.taskservice.kafka.OutboxRelay;
+import org.example.taskservice.model.OutboxEvent;
+import org.example.taskservice.repository.OutboxEventRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepo outboxEventRepo;
+    private NotificationProducer notificationProducer;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxEventRepo = mock(OutboxEventRepo.class);
+        notificationProducer = mock(NotificationProducer.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        relay = new OutboxRelay(outboxEventRepo, notificationProducer, transactionTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(relay, "backoffInitial", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(relay, "backoffMax", Duration.ofMinutes(5));
+        when(outboxEventRepo.tryAdvisoryLock(anyLong())).thenReturn(true);
+        when(outboxEventRepo.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void shouldDeletePublishedEvents() {
+        when(outboxEventRepo.findDue(any(), any(Limit.class))).thenReturn(List.of(event(1L, "a"), event(2L, "b")));
+        when(notificationProducer.send(anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(outboxEventRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldHoldBackLaterEventsForFailedKey() {
+        OutboxEvent failed = event(1L, "a");
+        when(outboxEventRepo.findDue(any(), any(Limit.class))).thenReturn(List.of(failed, event(2L, "b"), event(3L, "a")));
+        when(notificationProducer.send(anyString(), anyString(), eq("payload-1")))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(notificationProducer.send(anyString(), anyString(), eq("payload-2"))).thenReturn(CompletableFuture.completedFuture(null));
+        when(notificationProducer.send(anyString(), anyString(), eq("payload-3"))).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(outboxEventRepo).deleteAllByIdInBatch(List.of(2L));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("broker down");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(failed.getParkedAt()).isNull();
+    }
+
+    @Test
+    void shouldParkEventAfterMaxAttempts() {
+        OutboxEvent poison = event(1L, "a");
+        poison.setAttempts(2);
+        poison.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        when(outboxEventRepo.findDue(any(), any(Limit.class))).thenReturn(List.of(poison));
+        when(notificationProducer.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("record too large")));
+        when(outboxEventRepo.countByParkedAtIsNotNull()).thenReturn(1L);
+        SimpleMeterRegistry meterRegistry = (SimpleMeterRegistry) ReflectionTestUtils.getField(relay, "meterRegistry");
+
+        relay.relay();
+
+        assertThat(poison.getAttempts()).isEqualTo(3);
+        assertThat(poison.getParkedAt()).isNotNull();
+        assertThat(poison.getNextAttemptAt()).isNull();
+        assertThat(meterRegistry.get("outbox.parked").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldSkipWhenAnotherReplicaHoldsRelayLock() {
+        when(outboxEventRepo.tryAdvisoryLock(anyLong())).thenReturn(false);
+
+        relay.relay();
+
+        verify(outboxEventRepo, never()).findDue(any(), any(Limit.class));
+        verifyNoInteractions(notificationProducer);
+    }
+
+    private OutboxEvent event(Long id, String key) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("notifications")
+                .messageKey(key)
+                .payload("payload-" + id)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
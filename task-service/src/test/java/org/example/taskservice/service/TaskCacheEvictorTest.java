@@ -0,0 +1,114 @@
+package org.example.taskservice.service;
+
+import org.example.taskservice.cache.TaskPageCache;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCacheEvictorTest {
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID otherManagerId = UUID.randomUUID();
+    private final UUID workerId = UUID.randomUUID();
+    private final UUID otherWorkerId = UUID.randomUUID();
+    private final Long taskId = 1L;
+
+    private CacheManager cacheManager;
+    private TaskCacheEvictor taskCacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                "allTasks", "managerTasks", "workerTasks", "taskDetail", "extensionRequests", "submittedTasks",
+                TaskPageCache.PAGES, TaskPageCache.GENERATIONS);
+        taskCacheEvictor = new TaskCacheEvictor(cacheManager, new TaskPageCache(cacheManager));
+
+        cacheManager.getCache("allTasks").put(SimpleKey.EMPTY, List.of());
+        for (UUID manager : List.of(managerId, otherManagerId)) {
+            cacheManager.getCache("managerTasks").put(manager, List.of());
+            cacheManager.getCache("extensionRequests").put(manager, List.of());
+            cacheManager.getCache("submittedTasks").put(manager, List.of());
+        }
+        for (UUID worker : List.of(workerId, otherWorkerId)) {
+            cacheManager.getCache("workerTasks").put(worker, List.of());
+        }
+        cacheManager.getCache("taskDetail").put("taskDetail::" + managerId + "-" + taskId, "detail");
+        cacheManager.getCache("taskDetail").put("taskDetail::" + workerId + "-" + taskId, "detail");
+        cacheManager.getCache("taskDetail").put("taskDetail::" + otherManagerId + "-2", "detail");
+        cacheManager.getCache(TaskPageCache.GENERATIONS).put("manager:" + managerId, "g1");
+        cacheManager.getCache(TaskPageCache.GENERATIONS).put("manager:" + otherManagerId, "g1");
+    }
+
+    @Test
+    void shouldEvictScopesOfRefreshedViews() {
+        taskCacheEvictor.evictViews(List.of(TaskView.builder().id(taskId).managerId(managerId).assigneeId(workerId).build()));
+
+        assertThat(cacheManager.getCache("allTasks").get(SimpleKey.EMPTY)).isNull();
+        assertThat(cacheManager.getCache("managerTasks").get(managerId)).isNull();
+        assertThat(cacheManager.getCache("workerTasks").get(workerId)).isNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + workerId + "-" + taskId)).isNull();
+        assertThat(cacheManager.getCache(TaskPageCache.GENERATIONS).get("manager:" + managerId)).isNull();
+        assertThat(cacheManager.getCache("managerTasks").get(otherManagerId)).isNotNull();
+        assertThat(cacheManager.getCache("workerTasks").get(otherWorkerId)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictOnlyKeysTouchedByTask() {
+        Task task = Task.builder().id(taskId).managerId(managerId).assigneeId(workerId).build();
+
+        taskCacheEvictor.evictTask(task);
+
+        assertThat(cacheManager.getCache("allTasks").get(SimpleKey.EMPTY)).isNull();
+        assertThat(cacheManager.getCache("managerTasks").get(managerId)).isNull();
+        assertThat(cacheManager.getCache("extensionRequests").get(managerId)).isNull();
+        assertThat(cacheManager.getCache("submittedTasks").get(managerId)).isNull();
+        assertThat(cacheManager.getCache("workerTasks").get(workerId)).isNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + managerId + "-" + taskId)).isNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + workerId + "-" + taskId)).isNull();
+        assertThat(cacheManager.getCache(TaskPageCache.GENERATIONS).get("manager:" + managerId)).isNull();
+
+        assertThat(cacheManager.getCache(TaskPageCache.GENERATIONS).get("manager:" + otherManagerId)).isNotNull();
+        assertThat(cacheManager.getCache("managerTasks").get(otherManagerId)).isNotNull();
+        assertThat(cacheManager.getCache("extensionRequests").get(otherManagerId)).isNotNull();
+        assertThat(cacheManager.getCache("submittedTasks").get(otherManagerId)).isNotNull();
+        assertThat(cacheManager.getCache("workerTasks").get(otherWorkerId)).isNotNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + otherManagerId + "-2")).isNotNull();
+    }
+
+    @Test
+    void shouldEvictPreviousAssigneeOnReassignment() {
+        Task task = Task.builder().id(taskId).managerId(managerId).assigneeId(otherWorkerId).build();
+
+        taskCacheEvictor.evictTask(task, workerId);
+
+        assertThat(cacheManager.getCache("workerTasks").get(workerId)).isNull();
+        assertThat(cacheManager.getCache("workerTasks").get(otherWorkerId)).isNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + workerId + "-" + taskId)).isNull();
+        assertThat(cacheManager.getCache("managerTasks").get(otherManagerId)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictEveryScopeTouchedByBulkChange() {
+        Task first = Task.builder().id(taskId).managerId(managerId).assigneeId(otherWorkerId).build();
+        Task second = Task.builder().id(2L).managerId(otherManagerId).assigneeId(otherWorkerId).build();
+
+        taskCacheEvictor.evictTasks(List.of(first, second), Map.of(taskId, workerId));
+
+        assertThat(cacheManager.getCache("managerTasks").get(managerId)).isNull();
+        assertThat(cacheManager.getCache("managerTasks").get(otherManagerId)).isNull();
+        assertThat(cacheManager.getCache("workerTasks").get(workerId)).isNull();
+        assertThat(cacheManager.getCache("workerTasks").get(otherWorkerId)).isNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + workerId + "-" + taskId)).isNull();
+        assertThat(cacheManager.getCache("taskDetail").get("taskDetail::" + otherManagerId + "-2")).isNull();
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.taskservice.service;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import org.example.taskservice.dto.TaskExportFormat;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+
+// Runs in its own surefire execution with -Xmx128m (see pom.xml): the export writes several times the heap size.
+// task_view is a lazily evaluated H2 view, so every row comes through the repository cursor without being stored.
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskExportHeapTest {
+
+    private static final long MAX_HEAP = 192L * 1024 * 1024;
+    private static final long ROWS = 200_000;
+
+    @Autowired
+    private TaskViewRepo taskViewRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskExporter taskExporter;
+
+    @TestConfiguration
+    static class LazyDatabase {
+        @Bean
+        DataSource dataSource() {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:task-export-heap;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE");
+            dataSource.setUser("sa");
+            return dataSource;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeThat(Runtime.getRuntime().maxMemory()).as("heap must be capped").isLessThan(MAX_HEAP);
+        taskExporter = new TaskExporter(taskViewRepo, mock(UserService.class),
+                JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+                transactionManager);
+        ReflectionTestUtils.setField(taskExporter, "entityManager", entityManager);
+        ReflectionTestUtils.setField(taskExporter, "chunkSize", 500);
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE VIEW task_view AS
+                SELECT X AS id, 'Task ' || X AS title, REPEAT('x', 2000) AS description,
+                       RANDOM_UUID() AS assignee_id, 'Worker' AS assignee_name, 'worker@example.com' AS assignee_email,
+                       'WORKER' AS assignee_role, RANDOM_UUID() AS manager_id, 'Manager' AS manager_name,
+                       'manager@example.com' AS manager_email, 'MANAGER' AS manager_role, 'MEDIUM' AS priority,
+                       DATE '2026-05-01' AS due_date, 'ASSIGNED' AS status, CAST(NULL AS VARCHAR) AS rejection_note,
+                       CAST(NULL AS VARCHAR) AS completion_note, CAST(NULL AS VARCHAR) AS submission_url,
+                       CAST(NULL AS VARCHAR) AS extension_status, CAST(NULL AS VARCHAR) AS extension_reason,
+                       CAST(NULL AS VARCHAR) AS extension_reject_reason, CAST(NULL AS DATE) AS extension_requested_due_date,
+                       CURRENT_TIMESTAMP AS last_updated
+                FROM SYSTEM_RANGE(1, %d)
+                """.formatted(ROWS));
+    }
+
+    @Test
+    void shouldStreamExportLargerThanHeap() {
+        CountingOutputStream out = new CountingOutputStream();
+
+        for (TaskExportFormat format : TaskExportFormat.values()) {
+            out.bytes = 0;
+            out.lines = 0;
+            taskExporter.export(format, out);
+
+            assertThat(out.lines).isEqualTo(format == TaskExportFormat.CSV ? ROWS + 1 : ROWS);
+            assertThat(out.bytes).isGreaterThan(3 * Runtime.getRuntime().maxMemory());
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') lines++;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.taskservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.taskservice.dto.*;
+import org.example.taskservice.model.TaskView;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TaskExporterTest {
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID workerId = UUID.randomUUID();
+
+    private UserService userService;
+    private TaskExporter taskExporter;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        taskExporter = new TaskExporter(mock(TaskViewRepo.class), userService, objectMapper,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(taskExporter, "chunkSize", 2);
+    }
+
+    @Test
+    void shouldWriteOneJsonLinePerTaskAndEnrichOnlyMissingUsers() {
+        when(userService.getUsersByIds(Set.of(workerId))).thenReturn(Map.of(
+                workerId, new User(workerId, "worker@example.com", "Worker", Role.WORKER)));
+        AtomicInteger chunks = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = taskExporter.write(Stream.of(view(1L, "One"), view(2L, "Two"), view(3L, "Three")),
+                TaskExportFormat.NDJSON, out, chunks::incrementAndGet);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"id\":1", "\"name\":\"Worker\"", "\"name\":\"Manager\"");
+        assertThat(chunks).hasValue(2);
+        verify(userService, times(2)).getUsersByIds(Set.of(workerId));
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsAndNeutraliseFormulas() {
+        when(userService.getUsersByIds(Set.of(workerId))).thenReturn(Map.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExporter.write(Stream.of(view(1L, "Fix \"prod\", then\nrelease")), TaskExportFormat.CSV, out, () -> {});
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(TaskExporter.CSV_HEADER + "\n");
+        assertThat(csv).contains("1,\"Fix \"\"prod\"\", then\nrelease\",");
+        assertThat(TaskExporter.csv("=SUM(A1:A2)")).isEqualTo("'=SUM(A1:A2)");
+        assertThat(TaskExporter.csv(null)).isEmpty();
+    }
+
+    private TaskView view(Long id, String title) {
+        return TaskView.builder()
+                .id(id)
+                .title(title)
+                .description("Description")
+                .assigneeId(workerId)
+                .managerId(managerId)
+                .managerName("Manager")
+                .managerEmail("manager@example.com")
+                .managerRole(Role.MANAGER)
+                .priority(Priority.HIGH)
+                .status(TaskStatus.ASSIGNED)
+                .dueDate(LocalDate.of(2026, 5, 1))
+                .build();
+    }
+}
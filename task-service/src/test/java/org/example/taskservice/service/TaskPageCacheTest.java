@@ -0,0 +1,75 @@
+package org.example.taskservice.service;
+
+import org.example.taskservice.cache.TaskPageCache;
+import org.example.taskservice.dto.TaskPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskPageCacheTest {
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID workerId = UUID.randomUUID();
+
+    private TaskPageCache taskPageCache;
+
+    @BeforeEach
+    void setUp() {
+        taskPageCache = new TaskPageCache(new ConcurrentMapCacheManager(TaskPageCache.PAGES, TaskPageCache.GENERATIONS));
+    }
+
+    @Test
+    void shouldKeepScopeVersionStableUntilScopeIsEvicted() {
+        String version = taskPageCache.generation("manager", managerId);
+
+        assertThat(taskPageCache.generation("manager", managerId)).isEqualTo(version);
+        assertThat(taskPageCache.generation("worker", workerId)).isNotEqualTo(version);
+
+        taskPageCache.evictScope("worker", workerId);
+        assertThat(taskPageCache.generation("manager", managerId)).isEqualTo(version);
+
+        taskPageCache.evictScope("manager", managerId);
+        assertThat(taskPageCache.generation("manager", managerId)).isNotEqualTo(version);
+    }
+
+    @Test
+    void shouldReloadPagesOnceScopeVersionChanges() {
+        AtomicInteger loads = new AtomicInteger();
+        TaskPage page = new TaskPage(List.of(), null, false);
+
+        taskPageCache.get("worker", workerId, "first", () -> { loads.incrementAndGet(); return page; });
+        taskPageCache.get("worker", workerId, "first", () -> { loads.incrementAndGet(); return page; });
+        taskPageCache.evictScope("worker", workerId);
+        taskPageCache.get("worker", workerId, "first", () -> { loads.incrementAndGet(); return page; });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldAgreeOnOneGenerationWhenReplicasMissTogether() {
+        Cache generations = spy(new ConcurrentMapCache(TaskPageCache.GENERATIONS));
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(TaskPageCache.GENERATIONS)).thenReturn(generations);
+        // The second replica read before the first one stored its token.
+        doCallRealMethod().doReturn(null).doCallRealMethod().when(generations).get(anyString(), eq(String.class));
+        TaskPageCache first = new TaskPageCache(cacheManager);
+        TaskPageCache second = new TaskPageCache(cacheManager);
+
+        String firstGeneration = first.generation("manager", managerId);
+
+        assertThat(second.generation("manager", managerId)).isEqualTo(firstGeneration);
+        assertThat(first.generation("manager", managerId)).isEqualTo(firstGeneration);
+    }
+}
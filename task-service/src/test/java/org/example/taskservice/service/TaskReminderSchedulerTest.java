@@ -0,0 +1,80 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskservice.dto.Notifications;
+import org.example.taskservice.dto.ReminderCandidate;
+import org.example.taskservice.dto.TaskStatus;
+import org.example.taskservice.kafka.NotificationProducer;
+import org.example.taskservice.repository.TaskRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskReminderSchedulerTest {
+
+    private final UUID workerId = UUID.randomUUID();
+    private final LocalDate today = LocalDate.now();
+
+    private TaskRepo taskRepo;
+    private NotificationProducer notificationProducer;
+    private MeterRegistry meterRegistry;
+    private TaskReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        taskRepo = mock(TaskRepo.class);
+        notificationProducer = mock(NotificationProducer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new TaskReminderScheduler(taskRepo, notificationProducer, meterRegistry, mock(ScheduledJobRunner.class));
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(scheduler, "sendTimeout", Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldWalkCandidatesInChunksUsingKeysetCursor() {
+        when(taskRepo.findReminderCandidates(eq(TaskStatus.COMPLETED), eq(today.plusDays(1)), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(candidate(5L, today), candidate(4L, today)));
+        when(taskRepo.findReminderCandidates(eq(TaskStatus.COMPLETED), eq(today), eq(4L), any(Limit.class)))
+                .thenReturn(List.of(candidate(2L, today.minusDays(1))));
+        when(notificationProducer.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<Notifications> batch = invocation.getArgument(0);
+            return batch.stream().map(n -> CompletableFuture.completedFuture(null)).toList();
+        });
+
+        scheduler.sendDailyReminders();
+
+        verify(notificationProducer, times(2)).sendBatch(anyList());
+        verify(taskRepo, times(2)).findReminderCandidates(any(), any(), anyLong(), any(Limit.class));
+        assertThat(meterRegistry.counter("task.reminders.sent").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("task.reminders.failed").count()).isZero();
+    }
+
+    @Test
+    void shouldCountFailedSends() {
+        when(taskRepo.findReminderCandidates(any(), any(), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(candidate(1L, today)));
+        when(notificationProducer.sendBatch(anyList()))
+                .thenReturn(List.of(CompletableFuture.failedFuture(new IllegalStateException("broker down"))));
+
+        scheduler.sendDailyReminders();
+
+        assertThat(meterRegistry.counter("task.reminders.sent").count()).isZero();
+        assertThat(meterRegistry.counter("task.reminders.failed").count()).isEqualTo(1);
+    }
+
+    private ReminderCandidate candidate(Long id, LocalDate dueDate) {
+        return new ReminderCandidate(id, "Task " + id, workerId, dueDate);
+    }
+}
@@ -1,19 +1,23 @@
 package org.example.taskservice.service;
 
+import org.example.taskservice.cache.TaskPageCache;
 import org.example.taskservice.dto.*;
 import org.example.taskservice.exception.ResourceNotFoundException;
-import org.example.taskservice.kafka.NotificationProducer;
 import org.example.taskservice.model.*;
 import org.example.taskservice.repository.TaskRepo;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.example.taskservice.repository.TaskViewSearchRepo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,8 +25,13 @@ import static org.mockito.Mockito.*;
 public class TaskServiceTest {
 
     @Mock private TaskRepo taskRepo;
+    @Mock private TaskViewRepo taskViewRepo;
+    @Mock private TaskViewProjector taskViewProjector;
     @Mock private UserService userService;
-    @Mock private NotificationProducer notificationProducer;
+    @Mock private NotificationOutbox notificationOutbox;
+    @Mock private TaskCacheEvictor taskCacheEvictor;
+    @Mock private TaskPageCache taskPageCache;
+    @Mock private TaskStatsService taskStatsService;
 
     @InjectMocks private TaskService taskService;
 
@@ -53,27 +62,75 @@ public class TaskServiceTest {
 
         assertThat(response.message()).isEqualTo("Task Created Successfully");
         assertThat(response.status()).isEqualTo(HttpStatus.CREATED);
-        verify(notificationProducer).sendNotification(any(Notifications.class));
+        verify(notificationOutbox).enqueue(any(Notifications.class));
+        verify(taskViewProjector).project(task);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateTasksInBulkWithSingleEvictionAndOutboxBatch() {
+        List<TaskRequest> requests = List.of(
+                new TaskRequest("One", "Description", workerId, Priority.MEDIUM, LocalDate.now().plusDays(2)),
+                new TaskRequest("Two", "Description", workerId, Priority.HIGH, LocalDate.now().plusDays(3)));
+        when(taskRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Response response = taskService.createTasks(managerId, requests);
+
+        assertThat(response.message()).isEqualTo("2 Tasks Created Successfully");
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepo).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Task::getManagerId).containsOnly(managerId);
+        verify(taskViewProjector).project(saved.getValue());
+        verify(taskCacheEvictor, times(1)).evictTasks(saved.getValue(), Map.of());
+        verify(notificationOutbox, times(1)).enqueueAll(argThat(list -> list.size() == 2));
+        verify(taskRepo, never()).save(any(Task.class));
+    }
+
+    @Test
+    void shouldRejectBulkUpdateWhenAnyTaskIsMissing() {
+        Task task = Task.builder().id(taskId).managerId(managerId).assigneeId(workerId).status(TaskStatus.ASSIGNED).build();
+        when(taskRepo.findAllById(Set.of(taskId, 2L))).thenReturn(List.of(task));
+        TaskRequest changes = new TaskRequest("Title", "Description", workerId, Priority.LOW, LocalDate.now().plusDays(1));
+
+        assertThatThrownBy(() -> taskService.updateTasks(managerId, List.of(new TaskUpdate(taskId, changes), new TaskUpdate(2L, changes))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("[2]");
+        verifyNoInteractions(notificationOutbox, taskCacheEvictor);
+    }
+
+    @Test
+    void shouldApproveSubmittedTasksInBulk() {
+        Task first = Task.builder().id(1L).managerId(managerId).assigneeId(workerId).status(TaskStatus.SUBMITTED).build();
+        Task second = Task.builder().id(2L).managerId(managerId).assigneeId(workerId).status(TaskStatus.SUBMITTED).build();
+        when(taskRepo.findAllById(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+
+        taskService.approveSubmittedTasks(managerId, Set.of(1L, 2L));
+
+        assertThat(List.of(first, second)).extracting(Task::getStatus).containsOnly(TaskStatus.COMPLETED);
+        verify(taskCacheEvictor, times(1)).evictTasks(List.of(first, second), Map.of());
+        verify(notificationOutbox, times(1)).enqueueAll(argThat(list -> list.size() == 2));
     }
 
     @Test
     void shouldGetAllTasks() {
-        Task task = Task.builder()
+        TaskView view = TaskView.builder()
                 .id(taskId)
                 .assigneeId(workerId)
+                .assigneeEmail("worker@example.com")
+                .assigneeName("Worker")
+                .assigneeRole(Role.WORKER)
                 .managerId(managerId)
                 .status(TaskStatus.ASSIGNED)
                 .build();
-        when(taskRepo.findAll(any(Sort.class))).thenReturn(List.of(task));
-        when(userService.getUsersByIds(anySet())).thenReturn(Map.of(workerId, dummyUser(workerId), managerId, dummyUser(managerId)));
+        when(taskViewRepo.findAll(any(Sort.class))).thenReturn(List.of(view));
 
         List<TaskDetails> result = taskService.getAllTasks();
 
-        System.out.println(userService.getUsersByIds(anySet()));
-        System.out.println(result);
-
         assertThat(result).hasSize(1);
-        verify(taskRepo).findAll(any(Sort.class));
+        assertThat(result.getFirst().assignee().email()).isEqualTo("worker@example.com");
+        assertThat(result.getFirst().manager()).isNull();
+        verify(taskViewRepo).findAll(any(Sort.class));
+        verifyNoInteractions(userService, taskRepo);
     }
 
     @Test
@@ -106,11 +163,16 @@ public class TaskServiceTest {
         Task task = Task.builder().id(taskId).managerId(managerId).assigneeId(workerId).status(TaskStatus.SUBMITTED).build();
         when(taskRepo.findById(taskId)).thenReturn(Optional.of(task));
 
+        TaskStatsService.Entry before = new TaskStatsService.Entry(
+                new TaskStatsKey(managerId, TaskStatus.SUBMITTED, Priority.HIGH), false);
+        when(taskStatsService.snapshot(task)).thenReturn(before);
+
         Response response = taskService.approveSubmittedTask(managerId, taskId);
 
         assertThat(response.message()).isEqualTo("Task approved successfully");
         verify(taskRepo).save(any(Task.class));
-        verify(notificationProducer).sendNotification(any(Notifications.class));
+        verify(taskStatsService).moved(before, task);
+        verify(notificationOutbox).enqueue(any(Notifications.class));
     }
 
     @Test
@@ -122,7 +184,7 @@ public class TaskServiceTest {
 
         assertThat(response.message()).contains("Task rejected");
         verify(taskRepo).save(any(Task.class));
-        verify(notificationProducer).sendNotification(any(Notifications.class));
+        verify(notificationOutbox).enqueue(any(Notifications.class));
     }
 
     @Test
@@ -137,6 +199,118 @@ public class TaskServiceTest {
 
         assertThat(response.message()).isEqualTo("Task Requested Successfully");
         verify(taskRepo).save(any(Task.class));
+        verify(taskViewProjector).project(task);
+    }
+
+    @Test
+    void shouldRemoveViewRowOnDelete() {
+        Task task = Task.builder().id(taskId).managerId(managerId).assigneeId(workerId).status(TaskStatus.ASSIGNED).build();
+        when(taskRepo.findById(taskId)).thenReturn(Optional.of(task));
+
+        taskService.deleteTask(managerId, taskId);
+
+        verify(taskViewProjector).remove(task);
+    }
+
+    @Test
+    void shouldEvictPreviousAndNewAssigneeOnReassignment() {
+        UUID newWorkerId = UUID.randomUUID();
+        Task task = Task.builder().id(taskId).managerId(managerId).assigneeId(workerId).status(TaskStatus.ASSIGNED).build();
+        when(taskRepo.findById(taskId)).thenReturn(Optional.of(task));
+
+        TaskRequest request = new TaskRequest("Title", "Description", newWorkerId, Priority.HIGH, LocalDate.now().plusDays(2));
+        taskService.updateTask(managerId, taskId, request);
+
+        assertThat(task.getAssigneeId()).isEqualTo(newWorkerId);
+        verify(taskCacheEvictor).evictTask(task, workerId);
+    }
+
+    @Test
+    void shouldLoadSubmittedTasksScopedToManager() {
+        TaskView view = TaskView.builder().id(taskId).managerId(managerId).assigneeId(workerId).status(TaskStatus.SUBMITTED).build();
+        when(taskViewRepo.findAllByManagerIdAndStatus(eq(managerId), eq(TaskStatus.SUBMITTED), any(Sort.class))).thenReturn(List.of(view));
+
+        List<TaskDetails> result = taskService.getAllSubmittedTasks(managerId);
+
+        assertThat(result).extracting(TaskDetails::id).containsExactly(taskId);
+        verify(taskViewRepo, never()).findAll(any(Sort.class));
+    }
+
+    @Test
+    void shouldLoadExtensionRequestsScopedToManager() {
+        TaskView view = TaskView.builder().id(taskId).managerId(managerId).assigneeId(workerId)
+                .status(TaskStatus.ASSIGNED).extensionStatus(ExtensionStatus.PENDING)
+                .extensionReason("Blocked").extensionRequestedDueDate(LocalDate.now().plusDays(3)).build();
+        when(taskViewRepo.findAllByManagerIdAndExtensionStatus(eq(managerId), eq(ExtensionStatus.PENDING), any(Sort.class))).thenReturn(List.of(view));
+
+        List<TaskDetails> result = taskService.getAllExtensionRequest(managerId);
+
+        assertThat(result.getFirst().extension()).containsEntry("reason", "Blocked").containsEntry("status", "PENDING");
+        verify(taskViewRepo).findAllByManagerIdAndExtensionStatus(eq(managerId), eq(ExtensionStatus.PENDING), any(Sort.class));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnKeysetPageWithNextCursor() {
+        LocalDate dueDate = LocalDate.now().plusDays(3);
+        List<TaskView> rows = List.of(
+                TaskView.builder().id(3L).managerId(managerId).assigneeId(workerId).dueDate(dueDate).build(),
+                TaskView.builder().id(2L).managerId(managerId).assigneeId(workerId).dueDate(dueDate).build(),
+                TaskView.builder().id(1L).managerId(managerId).assigneeId(workerId).dueDate(dueDate).build()
+        );
+        when(taskPageCache.get(eq("manager"), eq(managerId), anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<TaskPage>) invocation.getArgument(3)).get());
+        doReturn(rows).when(taskViewRepo).findBy(any(Specification.class), any());
+
+        TaskPage page = taskService.getTasksByManagerPage(managerId, new TaskPageRequest(null, null, null, 2));
+
+        assertThat(page.tasks()).extracting(TaskDetails::id).containsExactly(3L, 2L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(TaskCursor.decode(page.nextCursor())).isEqualTo(new TaskCursor(dueDate, 2L));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void shouldRejectOversizedPage() {
+        TaskPageRequest request = new TaskPageRequest(null, null, null, TaskPageRequest.MAX_SIZE + 1);
+
+        assertThatThrownBy(request::pageSize).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldScopeManagerSearchAndReturnRankCursor() {
+        List<TaskViewSearchRepo.SearchHit> hits = List.of(
+                new TaskViewSearchRepo.SearchHit(TaskView.builder().id(9L).managerId(managerId).assigneeId(workerId).build(), 0.6f),
+                new TaskViewSearchRepo.SearchHit(TaskView.builder().id(4L).managerId(managerId).assigneeId(workerId).build(), 0.3f),
+                new TaskViewSearchRepo.SearchHit(TaskView.builder().id(2L).managerId(managerId).assigneeId(workerId).build(), 0.3f)
+        );
+        when(taskViewRepo.search("invoice", managerId, null, null, 3)).thenReturn(hits);
+
+        TaskPage page = taskService.searchTasks(managerId, Role.MANAGER, new TaskSearchRequest(" invoice ", null, 2));
+
+        assertThat(page.tasks()).extracting(TaskDetails::id).containsExactly(9L, 4L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(TaskSearchCursor.decode(page.nextCursor())).isEqualTo(new TaskSearchCursor(0.3f, 4L));
+    }
+
+    @Test
+    void shouldScopeWorkerSearchToAssignedTasks() {
+        TaskSearchCursor after = new TaskSearchCursor(0.5f, 7L);
+        when(taskViewRepo.search("invoice", null, workerId, after, TaskPageRequest.DEFAULT_SIZE + 1)).thenReturn(List.of());
+
+        TaskPage page = taskService.searchTasks(workerId, Role.WORKER, new TaskSearchRequest("invoice", after.encode(), null));
+
+        assertThat(page.tasks()).isEmpty();
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectBlankSearchQuery() {
+        assertThatThrownBy(() -> taskService.searchTasks(managerId, Role.ADMIN, new TaskSearchRequest("  ", null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskViewRepo);
     }
 
     private User dummyUser(UUID id) {
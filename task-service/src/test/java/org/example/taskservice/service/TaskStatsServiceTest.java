@@ -0,0 +1,151 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskservice.dto.Priority;
+import org.example.taskservice.dto.TaskStatsCount;
+import org.example.taskservice.dto.TaskStatsSummary;
+import org.example.taskservice.dto.TaskStatus;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskStats;
+import org.example.taskservice.model.TaskStatsKey;
+import org.example.taskservice.repository.TaskRepo;
+import org.example.taskservice.repository.TaskStatsRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskStatsServiceTest {
+
+    @Mock
+    private TaskStatsRepo taskStatsRepo;
+
+    @Mock
+    private TaskRepo taskRepo;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+
+    private final UUID managerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldMoveOverdueTaskOutOfOpenBucketOnSubmission() {
+        Task task = task(1L, TaskStatus.ASSIGNED, LocalDate.now().minusDays(2));
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
+        task.setStatus(TaskStatus.SUBMITTED);
+
+        taskStatsService.moved(before, task);
+
+        verify(taskStatsRepo).applyDelta(managerId, "ASSIGNED", "HIGH", -1, -1);
+        verify(taskStatsRepo).applyDelta(managerId, "SUBMITTED", "HIGH", 1, 0);
+        verifyNoMoreInteractions(taskStatsRepo);
+    }
+
+    @Test
+    void shouldCollapseBulkChangesIntoOneDeltaPerBucket() {
+        List<Task> tasks = List.of(
+                task(1L, TaskStatus.SUBMITTED, LocalDate.now().plusDays(1)),
+                task(2L, TaskStatus.SUBMITTED, LocalDate.now().plusDays(2)),
+                task(3L, TaskStatus.SUBMITTED, LocalDate.now().plusDays(3)));
+        Map<Long, TaskStatsService.Entry> before = taskStatsService.snapshot(tasks);
+        tasks.forEach(task -> task.setStatus(TaskStatus.COMPLETED));
+
+        taskStatsService.moved(before, tasks);
+
+        verify(taskStatsRepo).applyDelta(managerId, "SUBMITTED", "HIGH", -3, 0);
+        verify(taskStatsRepo).applyDelta(managerId, "COMPLETED", "HIGH", 3, 0);
+        verifyNoMoreInteractions(taskStatsRepo);
+    }
+
+    @Test
+    void shouldSkipUnchangedBuckets() {
+        Task task = task(1L, TaskStatus.ASSIGNED, LocalDate.now().plusDays(1));
+        TaskStatsService.Entry before = taskStatsService.snapshot(task);
+        task.setTitle("Renamed");
+
+        taskStatsService.moved(before, task);
+
+        verifyNoInteractions(taskStatsRepo);
+    }
+
+    @Test
+    void shouldSummariseCountersPerPriority() {
+        when(taskStatsRepo.findAllByIdManagerId(managerId)).thenReturn(List.of(
+                row(TaskStatus.ASSIGNED, Priority.HIGH, 4, 1),
+                row(TaskStatus.REASSIGNED, Priority.HIGH, 1, 1),
+                row(TaskStatus.SUBMITTED, Priority.LOW, 2, 0),
+                row(TaskStatus.COMPLETED, Priority.MEDIUM, 7, 0)));
+
+        TaskStatsSummary stats = taskStatsService.getStats(managerId);
+
+        assertThat(stats.byPriority().get(Priority.HIGH)).isEqualTo(new TaskStatsSummary.Counts(5, 0, 2, 0));
+        assertThat(stats.byPriority().get(Priority.LOW)).isEqualTo(new TaskStatsSummary.Counts(0, 2, 0, 0));
+        assertThat(stats.total()).isEqualTo(new TaskStatsSummary.Counts(5, 2, 2, 7));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplaceCountersAndReportDriftOnReconcile() {
+        when(taskStatsRepo.findAll()).thenReturn(List.of(
+                row(TaskStatus.ASSIGNED, Priority.HIGH, 4, 0),
+                row(TaskStatus.SUBMITTED, Priority.HIGH, 1, 0)));
+        when(taskRepo.countStats(anyCollection(), eq(LocalDate.now()))).thenReturn(List.of(
+                new TaskStatsCount(managerId, TaskStatus.ASSIGNED, Priority.HIGH, 4, 0),
+                new TaskStatsCount(managerId, TaskStatus.COMPLETED, Priority.HIGH, 1, 0)));
+
+        taskStatsService.reconcile();
+
+        verify(taskStatsRepo).lockForReconcile();
+        verify(taskStatsRepo).deleteAllRows();
+        ArgumentCaptor<List<TaskStats>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskStatsRepo).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(row -> row.getId().getStatus())
+                .containsExactly(TaskStatus.ASSIGNED, TaskStatus.COMPLETED);
+        assertThat(meterRegistry.counter("task.stats.drift").count()).isEqualTo(2.0);
+    }
+
+    private Task task(Long id, TaskStatus status, LocalDate dueDate) {
+        return Task.builder().id(id).managerId(managerId).assigneeId(UUID.randomUUID())
+                .priority(Priority.HIGH).status(status).dueDate(dueDate).build();
+    }
+
+    private TaskStats row(TaskStatus status, Priority priority, long tasks, long overdue) {
+        return TaskStats.builder()
+                .id(new TaskStatsKey(managerId, status, priority))
+                .taskCount(tasks)
+                .overdueCount(overdue)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.taskservice.service;
+
+import org.example.taskservice.dto.TaskChanges;
+import org.example.taskservice.dto.TaskDetails;
+import org.example.taskservice.dto.TaskSyncWatermark;
+import org.example.taskservice.model.TaskView;
+import org.example.taskservice.repository.TaskTombstoneRepo;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskSyncServiceTest {
+
+    @Mock
+    private TaskViewRepo taskViewRepo;
+
+    @Mock
+    private TaskTombstoneRepo taskTombstoneRepo;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @InjectMocks
+    private TaskSyncService taskSyncService;
+
+    private final UUID workerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskSyncService, "pageSize", 3);
+        ReflectionTestUtils.setField(taskSyncService, "settleWindow", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(taskSyncService, "tombstoneRetention", Duration.ofDays(30));
+    }
+
+    @Test
+    void shouldKeepOnlyLastEventPerTaskAndAdvanceToUpperBound() {
+        LocalDateTime at = LocalDateTime.now().minusMinutes(5);
+        when(taskViewRepo.findChanges(eq("assignee_id"), eq(workerId), eq(TaskSyncWatermark.ORIGIN), any(), eq(4)))
+                .thenReturn(List.of(
+                        new TaskSyncWatermark(at, true, 1L),
+                        new TaskSyncWatermark(at.plusSeconds(1), false, 1L),
+                        new TaskSyncWatermark(at.plusSeconds(2), true, 2L)));
+        when(taskViewRepo.findAllById(List.of(1L))).thenReturn(List.of(
+                TaskView.builder().id(1L).managerId(UUID.randomUUID()).assigneeId(workerId).build()));
+
+        TaskChanges changes = taskSyncService.getWorkerChanges(workerId, null);
+
+        assertThat(changes.upserted()).extracting(TaskDetails::id).containsExactly(1L);
+        assertThat(changes.removed()).containsExactly(2L);
+        assertThat(changes.hasMore()).isFalse();
+        TaskSyncWatermark next = TaskSyncWatermark.decode(changes.watermark());
+        assertThat(next.changedAt()).isAfter(at).isBefore(LocalDateTime.now().minusSeconds(4));
+        assertThat(next.taskId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldResumeFromLastChangeWhenPageIsFull() {
+        LocalDateTime at = LocalDateTime.now().minusMinutes(5);
+        List<TaskSyncWatermark> rows = List.of(
+                new TaskSyncWatermark(at, true, 1L),
+                new TaskSyncWatermark(at, true, 2L),
+                new TaskSyncWatermark(at, true, 3L),
+                new TaskSyncWatermark(at, true, 4L));
+        when(taskViewRepo.findChanges(anyString(), any(), any(), any(), anyInt())).thenReturn(rows);
+
+        TaskChanges changes = taskSyncService.getManagerChanges(UUID.randomUUID(), null);
+
+        assertThat(changes.removed()).containsExactly(1L, 2L, 3L);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(TaskSyncWatermark.decode(changes.watermark())).isEqualTo(rows.get(2));
+    }
+
+    @Test
+    void shouldRejectWatermarkOlderThanTombstoneRetention() {
+        String stale = new TaskSyncWatermark(LocalDateTime.now().minusDays(31), false, 1L).encode();
+
+        assertThatThrownBy(() -> taskSyncService.getWorkerChanges(workerId, stale))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskViewRepo);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.taskservice.service;
+
+import org.example.taskservice.dto.*;
+import org.example.taskservice.model.Task;
+import org.example.taskservice.model.TaskExtension;
+import org.example.taskservice.model.TaskTombstone;
+import org.example.taskservice.model.TaskView;
+import org.example.taskservice.repository.TaskRepo;
+import org.example.taskservice.repository.TaskTombstoneRepo;
+import org.example.taskservice.repository.TaskViewRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TaskViewProjectorTest {
+
+    @Mock private TaskViewRepo taskViewRepo;
+    @Mock private TaskTombstoneRepo taskTombstoneRepo;
+    @Mock private TaskRepo taskRepo;
+    @Mock private UserService userService;
+    @Mock private TaskCacheEvictor taskCacheEvictor;
+
+    @InjectMocks private TaskViewProjector taskViewProjector;
+
+    @Captor private ArgumentCaptor<List<TaskView>> views;
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID workerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldInlineUsersAndExtension() {
+        Task task = Task.builder().id(7L).title("Title").description("Description").managerId(managerId)
+                .assigneeId(workerId).priority(Priority.HIGH).dueDate(LocalDate.now()).status(TaskStatus.ASSIGNED).build();
+        task.setExtension(TaskExtension.builder().task(task).reason("Blocked")
+                .requestedDueDate(LocalDate.now().plusDays(2)).build());
+        when(userService.getLocalUsersByIds(anySet())).thenReturn(Map.of(
+                workerId, new User(workerId, "worker@example.com", "Worker", Role.WORKER)));
+
+        taskViewProjector.project(task);
+
+        verify(taskViewRepo).saveAll(views.capture());
+        TaskView view = views.getValue().getFirst();
+        assertThat(view.getAssigneeName()).isEqualTo("Worker");
+        assertThat(view.getManagerName()).isNull();
+        assertThat(view.getExtensionStatus()).isEqualTo(ExtensionStatus.PENDING);
+        assertThat(view.getExtensionReason()).isEqualTo("Blocked");
+        verify(userService, never()).getUsersByIds(anySet());
+    }
+
+    @Test
+    void shouldRefreshUserOnBothSidesAndEvictAffectedScopes() {
+        User user = new User(managerId, "renamed@example.com", "Renamed", Role.MANAGER);
+        List<TaskView> stale = List.of(TaskView.builder().id(7L).managerId(managerId).assigneeId(workerId).build());
+        when(taskViewRepo.findStaleForUser(managerId, "Renamed", "renamed@example.com", Role.MANAGER)).thenReturn(stale);
+
+        taskViewProjector.refreshUser(user);
+
+        verify(taskViewRepo).updateAssignee(eq(managerId), eq("Renamed"), eq("renamed@example.com"), eq(Role.MANAGER), any());
+        verify(taskViewRepo).updateManager(eq(managerId), eq("Renamed"), eq("renamed@example.com"), eq(Role.MANAGER), any());
+        verify(taskCacheEvictor).evictViews(stale);
+    }
+
+    @Test
+    void shouldLeaveViewsAndCachesAloneWhenUserIsUnchanged() {
+        taskViewProjector.refreshUser(new User(managerId, "manager@example.com", "Manager", Role.MANAGER));
+
+        verify(taskViewRepo, never()).updateAssignee(any(), any(), any(), any(), any());
+        verify(taskViewRepo, never()).updateManager(any(), any(), any(), any(), any());
+        verifyNoInteractions(taskCacheEvictor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldTombstonePreviousAssigneeOnReassignment() {
+        UUID previousWorkerId = UUID.randomUUID();
+        Task task = Task.builder().id(7L).title("Title").description("Description").managerId(managerId)
+                .assigneeId(workerId).priority(Priority.HIGH).dueDate(LocalDate.now()).status(TaskStatus.ASSIGNED).build();
+        when(taskViewRepo.findAllById(anyList())).thenReturn(List.of(
+                TaskView.builder().id(7L).managerId(managerId).assigneeId(previousWorkerId).build()));
+
+        taskViewProjector.project(task);
+
+        ArgumentCaptor<List<TaskTombstone>> tombstones = ArgumentCaptor.forClass(List.class);
+        verify(taskTombstoneRepo).saveAll(tombstones.capture());
+        assertThat(tombstones.getValue()).singleElement().satisfies(tombstone -> {
+            assertThat(tombstone.getTaskId()).isEqualTo(7L);
+            assertThat(tombstone.getAssigneeId()).isEqualTo(previousWorkerId);
+            assertThat(tombstone.getManagerId()).isNull();
+        });
+        verify(taskViewRepo).saveAll(views.capture());
+        assertThat(views.getValue().getFirst().isNew()).isFalse();
+    }
+
+    @Test
+    void shouldTombstoneBothScopesOnRemoval() {
+        Task task = Task.builder().id(7L).managerId(managerId).assigneeId(workerId).build();
+
+        taskViewProjector.remove(task);
+
+        verify(taskViewRepo).deleteById(7L);
+        verify(taskTombstoneRepo).save(argThat(tombstone -> tombstone.getTaskId() == 7L
+                && managerId.equals(tombstone.getManagerId()) && workerId.equals(tombstone.getAssigneeId())));
+    }
+}
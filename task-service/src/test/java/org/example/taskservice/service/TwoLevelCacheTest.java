@@ -0,0 +1,105 @@
+package org.example.taskservice.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskservice.cache.NearCacheInvalidationPublisher;
+import org.example.taskservice.cache.TwoLevelCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private final UUID managerId = UUID.randomUUID();
+
+    private Cache remote;
+    private NearCacheInvalidationPublisher publisher;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = spy(new ConcurrentMapCache("managerTasks"));
+        publisher = mock(NearCacheInvalidationPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache("managerTasks",
+                Caffeine.newBuilder().maximumSize(10).<String, Cache.ValueWrapper>build(),
+                remote, publisher, meterRegistry);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromLocalTier() {
+        remote.put(managerId, List.of("task"));
+
+        assertThat(cache.get(managerId, List.class)).containsExactly("task");
+        assertThat(cache.get(managerId, List.class)).containsExactly("task");
+
+        verify(remote, times(1)).get(managerId);
+        assertThat(meterRegistry.counter("cache.gets", "cache", "managerTasks", "tier", "l2", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountRemoteMiss() {
+        assertThat(cache.get(managerId)).isNull();
+
+        assertThat(meterRegistry.counter("cache.gets", "cache", "managerTasks", "tier", "l2", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictBothTiersAndBroadcast() {
+        cache.put(managerId, List.of("task"));
+
+        cache.evict(managerId);
+
+        assertThat(remote.get(managerId)).isNull();
+        assertThat(cache.get(managerId)).isNull();
+        verify(publisher).publish("managerTasks", managerId.toString());
+        assertThat(meterRegistry.counter("cache.evict.requests", "cache", "managerTasks").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictOnlyLocalTierOnRemoteInvalidation() {
+        cache.put(managerId, List.of("task"));
+        remote.put(managerId, List.of("fresh"));
+
+        cache.evictLocal(managerId.toString());
+
+        assertThat(cache.get(managerId, List.class)).containsExactly("fresh");
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void shouldNotFillLocalTierWhenInvalidatedDuringRemoteRead() {
+        remote.put(managerId, List.of("stale"));
+        doAnswer(invocation -> {
+            Cache.ValueWrapper read = (Cache.ValueWrapper) invocation.callRealMethod();
+            cache.evictLocal(managerId.toString());
+            return read;
+        }).doCallRealMethod().when(remote).get(managerId);
+
+        assertThat(cache.get(managerId, List.class)).containsExactly("stale");
+        remote.put(managerId, List.of("fresh"));
+
+        assertThat(cache.get(managerId, List.class)).containsExactly("fresh");
+        verify(remote, times(2)).get(managerId);
+    }
+
+    @Test
+    void shouldReadRemoteTierOnceWhenLoading() {
+        assertThat(cache.get(managerId, () -> List.of("loaded"))).isEqualTo(List.of("loaded"));
+        assertThat(cache.get(managerId, () -> List.of("reloaded"))).isEqualTo(List.of("loaded"));
+
+        verify(remote, times(1)).get(eq(managerId), any(Callable.class));
+        verify(remote, never()).get(managerId);
+        assertThat(meterRegistry.counter("cache.gets", "cache", "managerTasks", "tier", "l2", "result", "miss").count()).isEqualTo(1);
+    }
+}
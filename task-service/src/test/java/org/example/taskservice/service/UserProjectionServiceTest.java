@@ -0,0 +1,98 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskservice.client.UserClient;
+import org.example.taskservice.dto.Role;
+import org.example.taskservice.dto.User;
+import org.example.taskservice.dto.UserEvent;
+import org.example.taskservice.repository.UserProjectionRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserProjectionServiceTest {
+
+    @Mock
+    private UserProjectionRepo userProjectionRepo;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TaskViewProjector taskViewProjector;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private UserProjectionService userProjectionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(userProjectionService, "pageSize", 2);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldEvictCachedUserOnlyWhenEventIsApplied() {
+        UserEvent fresh = event(UUID.randomUUID());
+        UserEvent stale = event(UUID.randomUUID());
+        when(userProjectionRepo.upsert(eq(fresh.id()), any(), any(), any(), any(), any())).thenReturn(1);
+        when(userProjectionRepo.upsert(eq(stale.id()), any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThat(userProjectionService.apply(fresh, "event")).isTrue();
+        assertThat(userProjectionService.apply(stale, "event")).isFalse();
+
+        verify(userService).evict(fresh.id());
+        verify(userService, never()).evict(stale.id());
+        verify(taskViewProjector).refreshUser(new User(fresh.id(), fresh.email(), fresh.name(), fresh.role()));
+        verifyNoMoreInteractions(taskViewProjector);
+        assertThat(meterRegistry.counter("user.projection.updates", "source", "event", "result", "stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPageThroughSnapshotByLastSeenId() {
+        UserEvent first = event(UUID.randomUUID());
+        UserEvent second = event(UUID.randomUUID());
+        UserEvent third = event(UUID.randomUUID());
+        when(userClient.getUserSnapshot(null, 2)).thenReturn(List.of(first, second));
+        when(userClient.getUserSnapshot(second.id(), 2)).thenReturn(List.of(third));
+
+        userProjectionService.loadSnapshot();
+
+        verify(userProjectionRepo, times(3)).upsert(any(), any(), any(), eq("WORKER"), any(), any());
+        verify(userClient, times(2)).getUserSnapshot(any(), eq(2));
+    }
+
+    private UserEvent event(UUID id) {
+        return new UserEvent(id, id + "@example.com", "User", Role.WORKER, "UPDATED", LocalDateTime.now());
+    }
+}
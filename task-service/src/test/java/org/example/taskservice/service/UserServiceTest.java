@@ -0,0 +1,103 @@
+package org.example.taskservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.taskservice.dto.Role;
+import org.example.taskservice.dto.User;
+import org.example.taskservice.model.UserProjection;
+import org.example.taskservice.repository.UserProjectionRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    private final UUID userId1 = UUID.randomUUID();
+    private final UUID userId2 = UUID.randomUUID();
+
+    private UserLoader userLoader;
+    private UserProjectionRepo userProjectionRepo;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userLoader = mock(UserLoader.class);
+        userProjectionRepo = mock(UserProjectionRepo.class);
+        userService = new UserService(userLoader, userProjectionRepo, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), Duration.ofHours(1),
+                Duration.ofMillis(5), 100, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldLoadOnlyMissingUsersInOneBulkCall() {
+        when(userLoader.loadUsers(Set.of(userId1))).thenReturn(Map.of(userId1, user(userId1)));
+        when(userLoader.loadUsers(Set.of(userId2))).thenReturn(Map.of(userId2, user(userId2)));
+
+        userService.getUsersByIds(Set.of(userId1));
+        Map<UUID, User> result = userService.getUsersByIds(Set.of(userId1, userId2));
+
+        assertThat(result).containsOnlyKeys(userId1, userId2);
+        verify(userLoader, times(1)).loadUsers(Set.of(userId1));
+        verify(userLoader, times(1)).loadUsers(Set.of(userId2));
+        verifyNoMoreInteractions(userLoader);
+    }
+
+    @Test
+    void shouldResolveLocalUsersWithoutCallingAuthService() {
+        when(userProjectionRepo.findAllById(Set.of(userId1, userId2))).thenReturn(List.of(
+                UserProjection.builder().id(userId1).email("a@example.com").name("A").role(Role.WORKER).build()));
+
+        assertThat(userService.getLocalUsersByIds(Set.of(userId1, userId2))).containsOnlyKeys(userId1);
+        verifyNoInteractions(userLoader);
+    }
+
+    @Test
+    void shouldNotCacheFallbackResult() {
+        when(userLoader.loadUsers(Set.of(userId1)))
+                .thenReturn(Collections.emptyMap())
+                .thenReturn(Map.of(userId1, user(userId1)));
+
+        assertThat(userService.getUsersByIds(Set.of(userId1))).isEmpty();
+        assertThat(userService.getUsersByIds(Set.of(userId1))).containsOnlyKeys(userId1);
+    }
+
+    @Test
+    void shouldServeProjectedUsersWithoutRemoteCall() {
+        UserProjection projection = UserProjection.builder()
+                .id(userId1).email("local@example.com").name("Local").role(Role.MANAGER).build();
+        when(userProjectionRepo.findAllById(Set.of(userId1, userId2))).thenReturn(List.of(projection));
+        when(userLoader.loadUsers(Set.of(userId2))).thenReturn(Map.of(userId2, user(userId2)));
+
+        Map<UUID, User> result = userService.getUsersByIds(Set.of(userId1, userId2));
+
+        assertThat(result.get(userId1).email()).isEqualTo("local@example.com");
+        assertThat(result).containsKey(userId2);
+        verify(userLoader).loadUsers(Set.of(userId2));
+        verifyNoMoreInteractions(userLoader);
+    }
+
+    @Test
+    void shouldReloadFromProjectionAfterEviction() {
+        UserProjection projection = UserProjection.builder()
+                .id(userId1).email("old@example.com").name("User").role(Role.WORKER).build();
+        when(userProjectionRepo.findAllById(Set.of(userId1))).thenReturn(List.of(projection));
+        userService.getUsersByIds(Set.of(userId1));
+
+        projection.setEmail("new@example.com");
+        userService.evict(userId1);
+
+        assertThat(userService.getUsersByIds(Set.of(userId1)).get(userId1).email()).isEqualTo("new@example.com");
+        verifyNoInteractions(userLoader);
+    }
+
+    private User user(UUID id) {
+        return new User(id, id + "@example.com", "User", Role.WORKER);
+    }
+}